@@ -0,0 +1,111 @@
+package com.homechallenge.pokedex.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.cache.SerializedResponseCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Writing one {@code GET /pokemon/translated/{name}} body the way Spring MVC does: the DTO through
+ * the Jackson converter, against the cached bytes through the byte array converter. Both compute
+ * the ETag, as the controller does. The output buffer is reused, like the servlet container's, so
+ * allocation per operation (with {@code -prof gc}, as the benchmark profile runs) is what the write
+ * path itself costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+  private static final PokemonDTO MEWTWO =
+      new PokemonDTO(
+          150L,
+          "mewtwo",
+          "Created by a scientist after years of horrific gene splicing and dna engineering"
+              + " experiments,  it was.",
+          "rare",
+          true);
+
+  private MappingJackson2HttpMessageConverter jacksonConverter;
+  private ByteArrayHttpMessageConverter bytesConverter;
+  private SerializedResponseCache serializedResponses;
+  private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+  @Setup
+  public void configure() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+    bytesConverter = new ByteArrayHttpMessageConverter();
+    serializedResponses = new SerializedResponseCache(100, objectMapper);
+  }
+
+  @Benchmark
+  public int jackson() throws IOException {
+    Output output = output();
+    PokemonResponseCaching.etag(MEWTWO);
+    jacksonConverter.write(MEWTWO, MediaType.APPLICATION_JSON, output);
+    return output.body.size();
+  }
+
+  @Benchmark
+  public int cachedJson() throws IOException {
+    Output output = output();
+    String etag = PokemonResponseCaching.etag(MEWTWO);
+    bytesConverter.write(
+        serializedResponses.get(true, MEWTWO, etag).json(), MediaType.APPLICATION_JSON, output);
+    return output.body.size();
+  }
+
+  @Benchmark
+  public int cachedGzip() throws IOException {
+    Output output = output();
+    String etag = PokemonResponseCaching.etag(MEWTWO);
+    bytesConverter.write(
+        serializedResponses.get(true, MEWTWO, etag).gzip(), MediaType.APPLICATION_JSON, output);
+    return output.body.size();
+  }
+
+  private Output output() {
+    body.reset();
+    return new Output(body);
+  }
+
+  private record Output(ByteArrayOutputStream body, HttpHeaders headers)
+      implements HttpOutputMessage {
+    Output(ByteArrayOutputStream body) {
+      this(body, new HttpHeaders());
+    }
+
+    @Override
+    public OutputStream getBody() {
+      return body;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+}
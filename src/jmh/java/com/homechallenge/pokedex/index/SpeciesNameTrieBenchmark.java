@@ -0,0 +1,59 @@
+package com.homechallenge.pokedex.index;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Name suggestions over the bundled species list: completions, typos and a full rebuild. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpeciesNameTrieBenchmark {
+
+  private List<String> names;
+  private SpeciesNameTrie trie;
+
+  @Setup
+  public void setUp() throws IOException {
+    names = BundledSpeciesNames.load();
+    trie = SpeciesNameTrie.build(names);
+  }
+
+  @Benchmark
+  public List<String> completeShortPrefix() {
+    return trie.complete("s", 10);
+  }
+
+  @Benchmark
+  public List<String> completeName() {
+    return trie.complete("pika", 10);
+  }
+
+  @Benchmark
+  public List<String> similarOneTypo() {
+    return trie.similar("pikahcu", 1, 10);
+  }
+
+  @Benchmark
+  public List<String> similarTwoTypos() {
+    return trie.similar("charmandre", 2, 10);
+  }
+
+  @Benchmark
+  public SpeciesNameTrie build() {
+    return SpeciesNameTrie.build(names);
+  }
+}
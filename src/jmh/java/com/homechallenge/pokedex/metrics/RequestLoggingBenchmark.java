@@ -0,0 +1,127 @@
+package com.homechallenge.pokedex.metrics;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Logging cost of one translated lookup, from the caller's side. {@code perRequestLines} is what
+ * the controller and service used to log at INFO, description text included; {@code requestLine} is
+ * the sampled one-line request log. Each runs against a synchronous file appender and against the
+ * async appender used in production, with several threads contending for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RequestLoggingBenchmark {
+
+  private static final String NAME = "mewtwo";
+  private static final String DESCRIPTION =
+      "It was created by a scientist after years of horrific gene splicing and DNA engineering"
+          + " experiments.";
+  private static final String TRANSLATED =
+      "Created by a scientist after years of horrific gene splicing and dna engineering"
+          + " experiments,  it was.";
+
+  @Param({"sync", "async"})
+  public String appender;
+
+  @Param({"0.1"})
+  public double sampleRate;
+
+  private LoggerContext context;
+  private Path logFile;
+  private Logger serviceLog;
+  private Logger requestLog;
+
+  @Setup
+  public void configure() throws IOException {
+    logFile = Files.createTempFile("pokedex-logging", ".log");
+    context = new LoggerContext();
+
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d{HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+    encoder.start();
+
+    FileAppender<ILoggingEvent> file = new FileAppender<>();
+    file.setContext(context);
+    file.setFile(logFile.toString());
+    file.setEncoder(encoder);
+    file.start();
+
+    Appender<ILoggingEvent> root = file;
+    if ("async".equals(appender)) {
+      AsyncAppender async = new AsyncAppender();
+      async.setContext(context);
+      async.setQueueSize(8192);
+      async.setNeverBlock(true);
+      async.addAppender(file);
+      async.start();
+      root = async;
+    }
+
+    Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    rootLogger.setLevel(Level.INFO);
+    rootLogger.addAppender(root);
+    serviceLog = context.getLogger("com.homechallenge.pokedex.service.PokemonService");
+    requestLog = context.getLogger("pokedex.requests");
+  }
+
+  @TearDown
+  public void close() throws IOException {
+    context.stop();
+    Files.deleteIfExists(logFile);
+  }
+
+  @Benchmark
+  public void perRequestLines() {
+    serviceLog.info("Received request for translated pokemon: {}", NAME);
+    serviceLog.info("Fetching translated pokemon data for: {}", NAME);
+    serviceLog.info("Fetching pokemon data for: {}", NAME);
+    serviceLog.info("Mapped Pokemon: {}", NAME);
+    serviceLog.info("Translating text to {}: {}", "yoda", DESCRIPTION);
+    serviceLog.info("Translation successful: {}", TRANSLATED);
+  }
+
+  @Benchmark
+  public void requestLine() {
+    if (ThreadLocalRandom.current().nextDouble() < sampleRate) {
+      requestLog.info(
+          "method={} path={} status={} duration_us={} upstream_calls={} upstream_us={}",
+          "GET",
+          "/pokemon/translated/mewtwo",
+          200,
+          182_345L,
+          2,
+          180_911L);
+    }
+  }
+}
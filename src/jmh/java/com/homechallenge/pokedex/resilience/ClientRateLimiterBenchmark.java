@@ -0,0 +1,56 @@
+package com.homechallenge.pokedex.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the per-request bucket check, for one hot client (every thread contending on the same
+ * bucket) and for requests spread over many clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ClientRateLimiterBenchmark {
+
+  private static final int CLIENTS = 10_000;
+
+  private ClientRateLimiter limiter;
+  private String[] clients;
+
+  @Setup
+  public void setUp() {
+    limiter =
+        new ClientRateLimiter(
+            "plain", 1_000_000, Duration.ofSeconds(1), 1_000, 100_000, Duration.ofMinutes(10));
+    clients = new String[CLIENTS];
+    for (int i = 0; i < CLIENTS; i++) {
+      clients[i] = "ip:10.0." + (i >> 8) + "." + (i & 0xff);
+    }
+  }
+
+  @Benchmark
+  public long hotClient() {
+    return limiter.tryAcquire(clients[0]);
+  }
+
+  @Benchmark
+  public long manyClients() {
+    return limiter.tryAcquire(clients[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+  }
+}
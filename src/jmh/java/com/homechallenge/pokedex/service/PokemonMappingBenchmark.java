@@ -0,0 +1,70 @@
+package com.homechallenge.pokedex.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import com.homechallenge.pokedex.util.PokemonUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Micro benchmarks for the individual in-process stages of the service pipeline. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PokemonMappingBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private byte[] speciesPayload;
+  private byte[] translationPayload;
+  private String rawFlavorText;
+
+  @Setup
+  public void loadPayloads() throws IOException {
+    speciesPayload = load("payloads/pokemon-species/pikachu.json");
+    translationPayload = load("payloads/translate/shakespeare.json");
+    rawFlavorText =
+        objectMapper.readValue(speciesPayload, PokemonSpeciesResponse.class).englishFlavorText();
+  }
+
+  @Benchmark
+  public PokemonDTO decodeAndMap() throws IOException {
+    PokemonSpeciesResponse response =
+        objectMapper.readValue(speciesPayload, PokemonSpeciesResponse.class);
+    return PokemonService.mapToPokemonDTO(response);
+  }
+
+  @Benchmark
+  public String cleanFlavorText() {
+    return PokemonUtils.cleanFlavorText(rawFlavorText);
+  }
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public String parseTranslation() throws IOException {
+    Map<String, Object> response = objectMapper.readValue(translationPayload, Map.class);
+    return PokemonService.extractTranslatedText(response);
+  }
+
+  private static byte[] load(String path) throws IOException {
+    try (InputStream in =
+        PokemonMappingBenchmark.class.getClassLoader().getResourceAsStream(path)) {
+      return in.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.homechallenge.pokedex.service;
+
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.config.AppConfig;
+import com.homechallenge.pokedex.config.HttpClientSettings;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import com.homechallenge.pokedex.stub.UpstreamStubServer;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * End-to-end service benchmark: plain and translated lookups against local stubs serving recorded
+ * PokeAPI and FunTranslations payloads. Caches are cleared before every invocation so each call
+ * pays the full fetch, decode, map and translate pipeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PokemonServiceBenchmark {
+
+  @Param({"pikachu", "mewtwo"})
+  private String name;
+
+  private UpstreamStubServer stub;
+  private PokemonCache pokemonCache;
+  private TranslationCache translationCache;
+  private PokemonService pokemonService;
+
+  @Setup(Level.Trial)
+  public void startStub() throws IOException {
+    stub = new UpstreamStubServer(4).start();
+    pokemonCache = new PokemonCache(1000, Duration.ofHours(1));
+    translationCache = new TranslationCache(1000, Duration.ofHours(1), Duration.ofMinutes(1));
+    pokemonService =
+        new PokemonService(
+            restClient(stub.baseUrl()),
+            restClient(stub.baseUrl()),
+            pokemonCache,
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            new PokedexMetrics(new SimpleMeterRegistry()),
+            UpstreamGuard.unguarded("funtranslations"),
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+  }
+
+  @Setup(Level.Invocation)
+  public void clearCaches() {
+    pokemonCache.nativeCache().invalidateAll();
+    translationCache.nativeCache().invalidateAll();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopStub() {
+    stub.close();
+  }
+
+  private static RestClient restClient(String baseUrl) {
+    HttpClientSettings settings =
+        new HttpClientSettings(
+            10, Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(30), true);
+    return RestClient.builder()
+        .baseUrl(baseUrl)
+        .requestFactory(AppConfig.pooledRequestFactory(settings))
+        .build();
+  }
+
+  @Benchmark
+  public PokemonDTO plain() {
+    return pokemonService.getPokemonByName(name);
+  }
+
+  @Benchmark
+  public PokemonDTO translated() {
+    return pokemonService.getTranslatedPokemonByName(name);
+  }
+}
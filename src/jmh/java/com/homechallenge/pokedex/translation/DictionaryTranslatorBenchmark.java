@@ -0,0 +1,58 @@
+package com.homechallenge.pokedex.translation;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_SHAKESPEARE;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_YODA;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * In-process translation of typical flavor texts, for comparison with a FunTranslations round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryTranslatorBenchmark {
+
+  private static final String PIKACHU =
+      "When several of these POKéMON gather, their electricity could build and cause lightning"
+          + " storms.";
+  private static final String MEWTWO =
+      "It was created by a scientist after years of horrific gene splicing and DNA engineering"
+          + " experiments.";
+
+  private DictionaryTranslator translator;
+
+  @Setup
+  public void setUp() throws IOException {
+    translator = DictionaryTranslator.load();
+  }
+
+  @Benchmark
+  public String shakespeare() {
+    return translator.translate(PIKACHU, TRANSLATION_TYPE_SHAKESPEARE);
+  }
+
+  @Benchmark
+  public String yoda() {
+    return translator.translate(MEWTWO, TRANSLATION_TYPE_YODA);
+  }
+
+  @Benchmark
+  public DictionaryTranslator load() throws IOException {
+    return DictionaryTranslator.load();
+  }
+}
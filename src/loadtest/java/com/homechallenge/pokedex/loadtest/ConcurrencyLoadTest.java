@@ -0,0 +1,128 @@
+package com.homechallenge.pokedex.loadtest;
+
+import com.homechallenge.pokedex.stub.UpstreamStubServer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application against a slow PokeAPI stub and fires a burst of simultaneous GET
+ * /pokemon/{name} requests, each for a distinct name so that neither the cache nor request
+ * coalescing can absorb them. Compares request handling on platform vs virtual threads.
+ *
+ * <p>Configured through system properties: {@code loadtest.concurrency} (default 5000), {@code
+ * loadtest.latency-ms} upstream latency (default 500), {@code loadtest.virtual-threads} (default
+ * true) and {@code loadtest.warmup-requests} sent without upstream latency before the measured
+ * burst (default 2000).
+ */
+public class ConcurrencyLoadTest {
+
+  public static void main(String[] args) throws Exception {
+    int concurrency = Integer.getInteger("loadtest.concurrency", 5000);
+    Duration latency = Duration.ofMillis(Long.getLong("loadtest.latency-ms", 500));
+    boolean virtualThreads =
+        Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "true"));
+    int warmupRequests = Integer.getInteger("loadtest.warmup-requests", 2000);
+
+    try (UpstreamStubServer stub =
+        UpstreamStubServer.withVirtualThreads().fallbackSpecies("pikachu").start()) {
+      ConfigurableApplicationContext app =
+          LoadTestApplication.start(
+              Map.ofEntries(
+                  Map.entry("server.tomcat.max-connections", String.valueOf(concurrency + 100)),
+                  Map.entry("server.tomcat.accept-count", String.valueOf(concurrency)),
+                  Map.entry("spring.threads.virtual.enabled", String.valueOf(virtualThreads)),
+                  Map.entry("pokeapi.base.url", stub.baseUrl()),
+                  Map.entry("pokeapi.http.max-connections", String.valueOf(concurrency)),
+                  Map.entry("pokeapi.http.connect-timeout", "60s"),
+                  Map.entry("pokeapi.http.read-timeout", "60s")));
+      try {
+        String baseUrl = LoadTestApplication.baseUrl(app);
+        // let the JIT compile the request path before measuring
+        for (int sent = 0; sent < warmupRequests; sent += 100) {
+          burst(baseUrl, "warmup-" + sent + "-", 100);
+        }
+
+        stub.latency(latency);
+        Result result = burst(baseUrl, "pokemon-", concurrency);
+        System.out.printf(
+            "threads=%s concurrency=%d upstream-latency=%dms%n",
+            virtualThreads ? "virtual" : "platform", concurrency, latency.toMillis());
+        System.out.println(result);
+      } finally {
+        app.close();
+      }
+    }
+  }
+
+  private static Result burst(String baseUrl, String namePrefix, int concurrency)
+      throws InterruptedException {
+    long[] latencies = new long[concurrency];
+    AtomicInteger errors = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+    long startNanos;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < concurrency; i++) {
+        int index = i;
+        HttpRequest request =
+            HttpRequest.newBuilder(URI.create(baseUrl + "/pokemon/" + namePrefix + i))
+                .timeout(Duration.ofMinutes(2))
+                .build();
+        executor.submit(
+            () -> {
+              start.await();
+              long sent = System.nanoTime();
+              try {
+                HttpResponse<Void> response =
+                    client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                  errors.incrementAndGet();
+                }
+              } catch (Exception e) {
+                errors.incrementAndGet();
+              }
+              latencies[index] = System.nanoTime() - sent;
+              return null;
+            });
+      }
+      startNanos = System.nanoTime();
+      start.countDown();
+    }
+    long wallNanos = System.nanoTime() - startNanos;
+    Arrays.sort(latencies);
+    return new Result(concurrency, errors.get(), wallNanos, latencies);
+  }
+
+  private record Result(int requests, int errors, long wallNanos, long[] sortedLatencies) {
+
+    private long percentileMillis(double percentile) {
+      int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(index, 0)] / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+      double seconds = wallNanos / 1e9;
+      return String.format(
+          "requests=%d errors=%d wall=%.2fs throughput=%.0f req/s p50=%dms p99=%dms max=%dms",
+          requests,
+          errors,
+          seconds,
+          requests / seconds,
+          percentileMillis(0.50),
+          percentileMillis(0.99),
+          percentileMillis(1.0));
+    }
+  }
+}
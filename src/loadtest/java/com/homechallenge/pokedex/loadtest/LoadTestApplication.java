@@ -0,0 +1,40 @@
+package com.homechallenge.pokedex.loadtest;
+
+import com.homechallenge.pokedex.PokedexApplication;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/** Boots the application on a random port for a load test, with quiet logs and no side effects. */
+final class LoadTestApplication {
+
+  private LoadTestApplication() {}
+
+  /**
+   * @param properties added to, and overriding, the load test defaults
+   */
+  static ConfigurableApplicationContext start(Map<String, String> properties) {
+    Map<String, String> merged = new HashMap<>();
+    merged.put("server.port", "0");
+    merged.put("pokedex.snapshot.enabled", "false");
+    merged.put("pokedex.warmup.enabled", "false");
+    merged.put("pokedex.request-log.enabled", "false");
+    // the synthetic species names are not in the bundled list and would be rejected locally
+    merged.put("pokeapi.name-filter.enabled", "false");
+    merged.put("logging.level.root", "WARN");
+    merged.put("logging.level.com.homechallenge", "WARN");
+    merged.putAll(properties);
+    // command line arguments take precedence over application.yml
+    return new SpringApplicationBuilder(PokedexApplication.class)
+        .run(
+            merged.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new));
+  }
+
+  static String baseUrl(ConfigurableApplicationContext app) {
+    return "http://127.0.0.1:"
+        + app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+  }
+}
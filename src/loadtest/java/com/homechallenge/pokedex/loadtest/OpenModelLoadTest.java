@@ -0,0 +1,266 @@
+package com.homechallenge.pokedex.loadtest;
+
+import com.homechallenge.pokedex.stub.UpstreamStubServer;
+import com.homechallenge.pokedex.stub.UpstreamStubServer.Latency;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Drives the application at a target request rate, open-model: requests are started on schedule
+ * whether or not earlier ones have completed, as real clients do, so a slowdown shows up as
+ * queueing instead of quietly lowering the offered load. Latency is measured from each request's
+ * scheduled start, which keeps a stalled server from hiding its own delay (coordinated omission).
+ *
+ * <p>The upstream stubs draw latencies from log-normal distributions, fail a fraction of requests
+ * with a 503 and hold translations to a quota, answering the excess with a 429 and {@code
+ * Retry-After}. Every requested name is a distinct synthetic species; names are picked with a Zipf
+ * distribution, so a few are hot and most are cold, as in production traffic.
+ *
+ * <p>Configured through system properties, all prefixed {@code loadtest.}: {@code rps} (200),
+ * {@code duration-s} (30), {@code warmup-s} (10, run at the same rate and not reported), {@code
+ * arrivals} ({@code poisson} or {@code constant}), {@code species} (2000), {@code zipf-exponent}
+ * (1.0), {@code translated-ratio} (0.3), {@code timeout-ms} (10000), {@code virtual-threads}
+ * (true); for the stubs {@code pokeapi.latency-median-ms} (80), {@code pokeapi.latency-p99-ms}
+ * (400), {@code pokeapi.error-rate} (0.01), {@code translate.latency-median-ms} (150), {@code
+ * translate.latency-p99-ms} (900), {@code translate.error-rate} (0.02), {@code translate.quota}
+ * (20, 0 for none) per {@code translate.quota-period-s} (1).
+ */
+public class OpenModelLoadTest {
+
+  public static void main(String[] args) throws Exception {
+    double rps = doubleProperty("loadtest.rps", 200);
+    Duration duration = Duration.ofSeconds(Long.getLong("loadtest.duration-s", 30));
+    Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-s", 10));
+    boolean poisson = !"constant".equals(System.getProperty("loadtest.arrivals", "poisson"));
+    int species = Integer.getInteger("loadtest.species", 2000);
+    double zipfExponent = doubleProperty("loadtest.zipf-exponent", 1.0);
+    double translatedRatio = doubleProperty("loadtest.translated-ratio", 0.3);
+    Duration timeout = Duration.ofMillis(Long.getLong("loadtest.timeout-ms", 10_000));
+    boolean virtualThreads =
+        Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "true"));
+
+    Duration pokeApiMedian = millis("loadtest.pokeapi.latency-median-ms", 80);
+    Duration pokeApiP99 = millis("loadtest.pokeapi.latency-p99-ms", 400);
+    double pokeApiErrorRate = doubleProperty("loadtest.pokeapi.error-rate", 0.01);
+    Duration translateMedian = millis("loadtest.translate.latency-median-ms", 150);
+    Duration translateP99 = millis("loadtest.translate.latency-p99-ms", 900);
+    double translateErrorRate = doubleProperty("loadtest.translate.error-rate", 0.02);
+    int translateQuota = Integer.getInteger("loadtest.translate.quota", 20);
+    Duration translateQuotaPeriod =
+        Duration.ofSeconds(Long.getLong("loadtest.translate.quota-period-s", 1));
+
+    try (UpstreamStubServer stub =
+        UpstreamStubServer.withVirtualThreads()
+            .syntheticSpecies("pikachu")
+            .latency(
+                Latency.logNormal(pokeApiMedian, pokeApiP99),
+                Latency.logNormal(translateMedian, translateP99))
+            .errorRate(pokeApiErrorRate, translateErrorRate)
+            .translationQuota(translateQuota, translateQuotaPeriod)
+            .start()) {
+      ConfigurableApplicationContext app =
+          LoadTestApplication.start(
+              Map.of(
+                  "spring.threads.virtual.enabled", String.valueOf(virtualThreads),
+                  "pokeapi.base.url", stub.baseUrl(),
+                  "funtranslations.base.url", stub.baseUrl()));
+      try {
+        Driver driver =
+            new Driver(
+                LoadTestApplication.baseUrl(app),
+                new Zipf(species, zipfExponent),
+                translatedRatio,
+                timeout);
+        driver.run(rps, warmup, poisson);
+        Result result = driver.run(rps, duration, poisson);
+
+        System.out.printf(
+            "open model: %.0f req/s (%s arrivals) for %ds, %d species (zipf %.2f), %.0f%% translated,"
+                + " %s threads%n",
+            rps,
+            poisson ? "poisson" : "constant",
+            duration.toSeconds(),
+            species,
+            zipfExponent,
+            translatedRatio * 100,
+            virtualThreads ? "virtual" : "platform");
+        System.out.printf(
+            "upstream: pokeapi p50=%dms p99=%dms errors=%.1f%%; funtranslations p50=%dms p99=%dms"
+                + " errors=%.1f%% quota=%s%n",
+            pokeApiMedian.toMillis(),
+            pokeApiP99.toMillis(),
+            pokeApiErrorRate * 100,
+            translateMedian.toMillis(),
+            translateP99.toMillis(),
+            translateErrorRate * 100,
+            translateQuota > 0
+                ? translateQuota + "/" + translateQuotaPeriod.toSeconds() + "s"
+                : "none");
+        System.out.println(result);
+      } finally {
+        app.close();
+      }
+    }
+  }
+
+  private static final class Driver {
+    private final String baseUrl;
+    private final Zipf names;
+    private final double translatedRatio;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    Driver(String baseUrl, Zipf names, double translatedRatio, Duration timeout) {
+      this.baseUrl = baseUrl;
+      this.names = names;
+      this.translatedRatio = translatedRatio;
+      this.timeout = timeout;
+      this.client =
+          HttpClient.newBuilder()
+              .executor(Executors.newVirtualThreadPerTaskExecutor())
+              .connectTimeout(timeout)
+              .build();
+    }
+
+    /** Starts requests on the arrival schedule for {@code duration}, then waits for them all. */
+    Result run(double rps, Duration duration, boolean poisson) {
+      double meanIntervalNanos = 1e9 / rps;
+      int expected = (int) (rps * duration.toSeconds());
+      // room for the poisson count to run well above its mean
+      long[] latencies = new long[expected + 10 * (int) Math.sqrt(expected) + 100];
+      AtomicInteger completed = new AtomicInteger();
+      Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+
+      long start = System.nanoTime();
+      long end = start + duration.toNanos();
+      double next = start;
+      int sent = 0;
+      try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        while (next < end && sent < latencies.length) {
+          long scheduled = (long) next;
+          long wait = scheduled - System.nanoTime();
+          if (wait > 0) {
+            LockSupport.parkNanos(wait);
+          }
+          int index = sent++;
+          String path =
+              (random.nextDouble() < translatedRatio ? "/pokemon/translated/" : "/pokemon/")
+                  + "species-"
+                  + names.next(random);
+          HttpRequest request =
+              HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout).build();
+          executor.execute(
+              () -> {
+                String outcome = send(request);
+                latencies[index] = System.nanoTime() - scheduled;
+                outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                completed.incrementAndGet();
+              });
+          next +=
+              poisson ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+        }
+      }
+      long wallNanos = System.nanoTime() - start;
+      long[] sorted = Arrays.copyOf(latencies, sent);
+      Arrays.sort(sorted);
+      return new Result(sent, completed.get(), wallNanos, new TreeMap<>(outcomes), sorted);
+    }
+
+    private String send(HttpRequest request) {
+      try {
+        return String.valueOf(
+            client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+      } catch (HttpTimeoutException e) {
+        return "timeout";
+      } catch (Exception e) {
+        return "io-error";
+      }
+    }
+  }
+
+  /** Picks ranks 1..n with probability proportional to {@code 1 / rank^exponent}. */
+  private static final class Zipf {
+    private final double[] cumulative;
+
+    Zipf(int n, double exponent) {
+      cumulative = new double[n];
+      double sum = 0;
+      for (int rank = 1; rank <= n; rank++) {
+        sum += 1 / Math.pow(rank, exponent);
+        cumulative[rank - 1] = sum;
+      }
+      for (int i = 0; i < n; i++) {
+        cumulative[i] /= sum;
+      }
+    }
+
+    int next(ThreadLocalRandom random) {
+      int position = Arrays.binarySearch(cumulative, random.nextDouble());
+      return (position >= 0 ? position : -position - 1) + 1;
+    }
+  }
+
+  private record Result(
+      int sent,
+      int completed,
+      long wallNanos,
+      Map<String, LongAdder> outcomes,
+      long[] sortedLatencies) {
+
+    private double percentileMillis(double percentile) {
+      if (sortedLatencies.length == 0) {
+        return 0;
+      }
+      int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+      return sortedLatencies[Math.max(index, 0)] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+      double seconds = wallNanos / 1e9;
+      long ok = outcomes.getOrDefault("200", new LongAdder()).sum();
+      StringBuilder counts = new StringBuilder();
+      outcomes.forEach(
+          (outcome, count) -> counts.append(' ').append(outcome).append('=').append(count));
+      return String.format(
+          "sent=%d completed=%d wall=%.2fs throughput=%.1f req/s ok=%.1f req/s%n"
+              + "outcomes:%s%n"
+              + "latency p50=%.1fms p99=%.1fms p999=%.1fms max=%.1fms",
+          sent,
+          completed,
+          seconds,
+          completed / seconds,
+          ok / seconds,
+          counts,
+          percentileMillis(0.50),
+          percentileMillis(0.99),
+          percentileMillis(0.999),
+          percentileMillis(1.0));
+    }
+  }
+
+  private static double doubleProperty(String name, double defaultValue) {
+    String value = System.getProperty(name);
+    return value == null ? defaultValue : Double.parseDouble(value);
+  }
+
+  private static Duration millis(String name, long defaultValue) {
+    return Duration.ofMillis(Long.getLong(name, defaultValue));
+  }
+}
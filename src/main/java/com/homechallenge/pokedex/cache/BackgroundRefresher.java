@@ -0,0 +1,108 @@
+package com.homechallenge.pokedex.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reloads stale cache entries off the request path. At most one reload runs per key and at most
+ * {@code maxConcurrent} run at once; a refresh requested beyond that is dropped, and the stale
+ * value keeps being served until a later read asks again.
+ */
+@Slf4j
+public class BackgroundRefresher {
+
+  /** Never refreshes; for caches built without a grace period. */
+  public static final BackgroundRefresher NONE = new BackgroundRefresher("none", task -> {}, 0);
+
+  private final String name;
+  private final Executor executor;
+  private final Semaphore permits;
+  private final Set<Object> inFlight = ConcurrentHashMap.newKeySet();
+  private final LongAdder successes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder rejections = new LongAdder();
+
+  public BackgroundRefresher(String name, Executor executor, int maxConcurrent) {
+    this.name = name;
+    this.executor = executor;
+    this.permits = new Semaphore(maxConcurrent);
+  }
+
+  /**
+   * Runs {@code load} in the background unless {@code key} is already refreshing or the concurrency
+   * cap is reached. A non-null result is handed to {@code store}; a null result or an exception
+   * counts as a failed refresh and leaves the stale entry in place.
+   *
+   * @return whether a refresh was started
+   */
+  public <V> boolean refresh(Object key, Supplier<V> load, Consumer<V> store) {
+    if (!inFlight.add(key)) {
+      return false;
+    }
+    if (!permits.tryAcquire()) {
+      inFlight.remove(key);
+      rejections.increment();
+      return false;
+    }
+
+    try {
+      executor.execute(() -> run(key, load, store));
+      return true;
+    } catch (RejectedExecutionException e) {
+      release(key);
+      rejections.increment();
+      return false;
+    }
+  }
+
+  private <V> void run(Object key, Supplier<V> load, Consumer<V> store) {
+    try {
+      V value = load.get();
+      if (value != null) {
+        store.accept(value);
+        successes.increment();
+      } else {
+        failures.increment();
+      }
+    } catch (RuntimeException e) {
+      failures.increment();
+      log.warn("Background refresh of {} entry {} failed: {}", name, key, e.getMessage());
+    } finally {
+      release(key);
+    }
+  }
+
+  private void release(Object key) {
+    inFlight.remove(key);
+    permits.release();
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /** Number of refreshes currently running. */
+  public int active() {
+    return inFlight.size();
+  }
+
+  public long successes() {
+    return successes.sum();
+  }
+
+  public long failures() {
+    return failures.sum();
+  }
+
+  /** Refreshes dropped because the concurrency cap was reached. */
+  public long rejections() {
+    return rejections.sum();
+  }
+}
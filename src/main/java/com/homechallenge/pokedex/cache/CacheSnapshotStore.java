@@ -0,0 +1,286 @@
+package com.homechallenge.pokedex.cache;
+
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.CRC32;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists the Pokemon and translation caches to a local file so a restarted instance starts warm.
+ *
+ * <p>The file is a header followed by self-checking records: {@code kind (1 byte), payload length
+ * (4 bytes), payload, CRC-32 of kind and payload (4 bytes)}. Every record carries its absolute
+ * expiry time, so restored entries expire when they would have in the previous process. A new
+ * snapshot is written to a temporary file and moved over the old one, so a crash mid-write leaves
+ * the previous snapshot intact.
+ *
+ * <p>Loading never fails the caller: a record with a bad checksum is skipped, a truncated tail is
+ * dropped, and an unreadable file is treated as empty.
+ */
+@Slf4j
+public class CacheSnapshotStore {
+
+  private static final int MAGIC = 0x504B4458; // "PKDX"
+  private static final short VERSION = 2;
+  private static final byte KIND_POKEMON = 1;
+  private static final byte KIND_TRANSLATION = 2;
+  private static final int MAX_RECORD_SIZE = 1 << 20;
+
+  private final Path path;
+  private final PokemonCache pokemonCache;
+  private final TranslationCache translationCache;
+  private final Clock clock;
+
+  public CacheSnapshotStore(
+      Path path, PokemonCache pokemonCache, TranslationCache translationCache) {
+    this(path, pokemonCache, translationCache, Clock.systemUTC());
+  }
+
+  CacheSnapshotStore(
+      Path path, PokemonCache pokemonCache, TranslationCache translationCache, Clock clock) {
+    this.path = path;
+    this.pokemonCache = pokemonCache;
+    this.translationCache = translationCache;
+    this.clock = clock;
+  }
+
+  /** Writes the current contents of both caches, replacing the previous snapshot. */
+  public Result save() throws IOException {
+    long now = clock.millis();
+    Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+    int pokemon = 0;
+    int translations = 0;
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(now);
+
+        RecordWriter writer = new RecordWriter(out);
+        for (Map.Entry<PokemonDTO, Duration> entry : pokemonCache.entries().entrySet()) {
+          writer.write(
+              KIND_POKEMON,
+              payload -> writePokemon(payload, entry.getKey()),
+              now,
+              entry.getValue());
+          pokemon++;
+        }
+        for (TranslationCache.Persisted translation : translationCache.successes()) {
+          writer.write(
+              KIND_TRANSLATION,
+              payload -> writeTranslation(payload, translation),
+              now,
+              translation.remaining());
+          translations++;
+        }
+      }
+      move(temporary);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+    return new Result(pokemon, translations, 0);
+  }
+
+  /** Restores unexpired entries from the snapshot, if there is a readable one. */
+  public Result load() {
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+        log.warn("Ignoring cache snapshot {}: unknown format", path);
+        return Result.EMPTY;
+      }
+      in.readLong(); // written at, kept for inspection
+
+      return readRecords(in);
+    } catch (NoSuchFileException e) {
+      log.info("No cache snapshot at {}, starting cold", path);
+      return Result.EMPTY;
+    } catch (IOException e) {
+      log.warn("Ignoring unreadable cache snapshot {}: {}", path, e.toString());
+      return Result.EMPTY;
+    }
+  }
+
+  private Result readRecords(DataInputStream in) throws IOException {
+    long now = clock.millis();
+    int pokemon = 0;
+    int translations = 0;
+    int skipped = 0;
+    CRC32 crc = new CRC32();
+
+    while (true) {
+      int kind = in.read();
+      if (kind < 0) {
+        break;
+      }
+      byte[] payload;
+      int checksum;
+      try {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_RECORD_SIZE) {
+          log.warn("Cache snapshot {} has a corrupt record length, dropping the rest", path);
+          skipped++;
+          break;
+        }
+        payload = in.readNBytes(length);
+        if (payload.length < length) {
+          throw new EOFException();
+        }
+        checksum = in.readInt();
+      } catch (EOFException e) {
+        log.warn("Cache snapshot {} is truncated, dropping the last record", path);
+        skipped++;
+        break;
+      }
+
+      crc.reset();
+      crc.update(kind);
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        skipped++;
+        continue;
+      }
+
+      try {
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+        Duration remaining = Duration.ofMillis(record.readLong() - now);
+        if (remaining.isNegative() || remaining.isZero()) {
+          continue;
+        }
+        if (kind == KIND_POKEMON) {
+          pokemonCache.restore(readPokemon(record), remaining);
+          pokemon++;
+        } else if (kind == KIND_TRANSLATION) {
+          restoreTranslation(record, remaining);
+          translations++;
+        } else {
+          skipped++;
+        }
+      } catch (IOException e) {
+        skipped++;
+      }
+    }
+
+    if (skipped > 0) {
+      log.warn("Skipped {} corrupt records in cache snapshot {}", skipped, path);
+    }
+    return new Result(pokemon, translations, skipped);
+  }
+
+  private void move(Path temporary) throws IOException {
+    try {
+      Files.move(
+          temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void writePokemon(DataOutputStream out, PokemonDTO pokemon) throws IOException {
+    out.writeLong(pokemon.id());
+    writeString(out, pokemon.name());
+    writeString(out, pokemon.description());
+    writeString(out, pokemon.habitat());
+    out.writeBoolean(pokemon.legendary());
+  }
+
+  private static PokemonDTO readPokemon(DataInputStream in) throws IOException {
+    return new PokemonDTO(
+        in.readLong(), readString(in), readString(in), readString(in), in.readBoolean());
+  }
+
+  private static void writeTranslation(DataOutputStream out, TranslationCache.Persisted translation)
+      throws IOException {
+    writeString(out, translation.key().translationType());
+    out.writeLong(translation.key().digestHigh());
+    out.writeLong(translation.key().digestLow());
+    writeString(out, translation.translated());
+  }
+
+  private void restoreTranslation(DataInputStream in, Duration remaining) throws IOException {
+    TranslationCache.Key key =
+        new TranslationCache.Key(readString(in), in.readLong(), in.readLong());
+    translationCache.restore(key, readString(in), remaining);
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = in.readNBytes(length);
+    if (bytes.length < length) {
+      throw new EOFException();
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /** Entries written or restored, and corrupt records skipped while loading. */
+  public record Result(int pokemon, int translations, int skipped) {
+    static final Result EMPTY = new Result(0, 0, 0);
+  }
+
+  @FunctionalInterface
+  private interface PayloadWriter {
+    void write(DataOutputStream payload) throws IOException;
+  }
+
+  /** Frames one payload as kind, length, payload and checksum. */
+  private static final class RecordWriter {
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(512);
+    private final DataOutputStream payload = new DataOutputStream(buffer);
+    private final CRC32 crc = new CRC32();
+
+    private RecordWriter(DataOutputStream out) {
+      this.out = out;
+    }
+
+    private void write(byte kind, PayloadWriter writer, long now, Duration remaining)
+        throws IOException {
+      buffer.reset();
+      payload.writeLong(now + remaining.toMillis());
+      writer.write(payload);
+      payload.flush();
+
+      crc.reset();
+      crc.update(kind);
+      crc.update(buffer.toByteArray());
+
+      out.writeByte(kind);
+      out.writeInt(buffer.size());
+      buffer.writeTo(out);
+      out.writeInt((int) crc.getValue());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.homechallenge.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Names PokeAPI answered 404 for, remembered for a while so that repeated lookups of the same typo
+ * get their not-found without another round trip. Bounded, so a stream of random names only evicts
+ * older misses.
+ */
+public class NotFoundCache {
+
+  /** Remembers nothing. */
+  public static final NotFoundCache DISABLED = new NotFoundCache();
+
+  private final Cache<String, Boolean> cache;
+
+  public NotFoundCache(long maximumSize, Duration ttl) {
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).recordStats().build();
+  }
+
+  private NotFoundCache() {
+    this.cache = null;
+  }
+
+  public boolean enabled() {
+    return cache != null;
+  }
+
+  public boolean contains(String name) {
+    return cache != null && cache.getIfPresent(key(name)) != null;
+  }
+
+  public void put(String name) {
+    if (cache != null) {
+      cache.put(key(name), Boolean.TRUE);
+    }
+  }
+
+  public Cache<?, ?> nativeCache() {
+    return cache;
+  }
+
+  private static String key(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+}
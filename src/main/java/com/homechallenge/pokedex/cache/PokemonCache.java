@@ -0,0 +1,152 @@
+package com.homechallenge.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Size and TTL bounded cache of mapped Pokemon. Entries are addressable both by lowercase name and
+ * by numeric id, so "pikachu" and "25" resolve to the same cached species.
+ *
+ * <p>An entry is fresh for the TTL and then kept, stale, for a further grace period. Reading a
+ * stale entry returns it immediately and reloads it in the background, so popular species never
+ * expire on the request path, and an outage of PokeAPI is covered for the length of the grace.
+ */
+public class PokemonCache {
+
+  private final Cache<String, PokemonDTO> cache;
+  private final Policy.VarExpiration<String, PokemonDTO> expiration;
+  private final Duration gracePeriod;
+  private final BackgroundRefresher refresher;
+
+  public PokemonCache(long maximumSize, Duration timeToLive) {
+    this(maximumSize, timeToLive, Duration.ZERO, BackgroundRefresher.NONE);
+  }
+
+  public PokemonCache(
+      long maximumSize, Duration timeToLive, Duration gracePeriod, BackgroundRefresher refresher) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new WriteExpiry(timeToLive.plus(gracePeriod).toNanos()))
+            .recordStats()
+            .build();
+    this.expiration = cache.policy().expireVariably().orElseThrow();
+    this.gracePeriod = gracePeriod;
+    this.refresher = refresher;
+  }
+
+  /**
+   * @return the cached species, fresh or stale, or null
+   */
+  public PokemonDTO get(String nameOrId) {
+    return cache.getIfPresent(normalize(nameOrId));
+  }
+
+  /**
+   * Like {@link #get(String)}, but a stale hit also starts a background {@code reload} whose result
+   * replaces the entry. A failed reload keeps serving the stale species until its grace runs out.
+   */
+  public PokemonDTO get(String nameOrId, Supplier<PokemonDTO> reload) {
+    String key = normalize(nameOrId);
+    PokemonDTO pokemon = cache.getIfPresent(key);
+    if (pokemon != null && isStale(key)) {
+      refresher.refresh(key, reload, fresh -> put(key, fresh));
+    }
+    return pokemon;
+  }
+
+  public void put(String requestedName, PokemonDTO pokemon) {
+    cache.put(normalize(requestedName), pokemon);
+    if (pokemon.name() != null) {
+      cache.put(normalize(pokemon.name()), pokemon);
+    }
+    if (pokemon.id() > 0) {
+      cache.put(String.valueOf(pokemon.id()), pokemon);
+    }
+  }
+
+  /**
+   * @return every cached species once, however many keys it is stored under, with the time it has
+   *     left before expiring
+   */
+  public Map<PokemonDTO, Duration> entries() {
+    Map<PokemonDTO, Duration> entries = new IdentityHashMap<>();
+    cache
+        .asMap()
+        .forEach(
+            (key, pokemon) ->
+                expiration
+                    .getExpiresAfter(key)
+                    .ifPresent(remaining -> entries.merge(pokemon, remaining, PokemonCache::min)));
+    return entries;
+  }
+
+  /**
+   * Re-adds a species under its name and id, expiring after {@code remaining} instead of the TTL.
+   */
+  public void restore(PokemonDTO pokemon, Duration remaining) {
+    if (pokemon.name() != null) {
+      expiration.put(normalize(pokemon.name()), pokemon, remaining);
+    }
+    if (pokemon.id() > 0) {
+      expiration.put(String.valueOf(pokemon.id()), pokemon, remaining);
+    }
+  }
+
+  private boolean isStale(String key) {
+    return !gracePeriod.isZero()
+        && expiration
+            .getExpiresAfter(key)
+            .map(remaining -> remaining.compareTo(gracePeriod) < 0)
+            .orElse(false);
+  }
+
+  /** Exposes the refresher of stale entries so its activity can be bound to the meter registry. */
+  public BackgroundRefresher refresher() {
+    return refresher;
+  }
+
+  /** Exposes the underlying cache so it can be bound to the meter registry. */
+  public Cache<String, PokemonDTO> nativeCache() {
+    return cache;
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  /**
+   * @return the key a name or id is cached under, for callers that key their own state the same way
+   */
+  public static String normalize(String key) {
+    return key.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record WriteExpiry(long timeToLiveNanos) implements Expiry<String, PokemonDTO> {
+
+    @Override
+    public long expireAfterCreate(String key, PokemonDTO pokemon, long currentTime) {
+      return timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, PokemonDTO pokemon, long currentTime, long currentDuration) {
+      return timeToLiveNanos;
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, PokemonDTO pokemon, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
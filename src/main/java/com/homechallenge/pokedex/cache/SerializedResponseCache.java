@@ -0,0 +1,88 @@
+package com.homechallenge.pokedex.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final JSON bytes of {@code GET /pokemon} responses, plain and gzip-compressed, by endpoint and
+ * species name. A hit is written straight to the response without going through Jackson.
+ *
+ * <p>Every entry remembers the ETag of the DTO it was serialized from. A lookup with a different
+ * ETag (the species was refreshed, or a translation replaced a fallback) serializes again and
+ * replaces the entry, so the bytes never disagree with the ETag sent next to them.
+ */
+public class SerializedResponseCache {
+
+  /** Caches nothing; callers serialize the DTO as usual. */
+  public static final SerializedResponseCache DISABLED = new SerializedResponseCache();
+
+  private final Cache<Key, Entry> cache;
+  private final ObjectMapper objectMapper;
+
+  public SerializedResponseCache(long maximumSize, ObjectMapper objectMapper) {
+    this.cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    this.objectMapper = objectMapper;
+  }
+
+  private SerializedResponseCache() {
+    this.cache = null;
+    this.objectMapper = null;
+  }
+
+  public boolean enabled() {
+    return cache != null;
+  }
+
+  /**
+   * @param etag the ETag of {@code pokemon}, as sent with the response
+   * @return the serialized response for {@code pokemon}, from the cache when its ETag still matches
+   */
+  public Entry get(boolean translated, PokemonDTO pokemon, String etag) {
+    if (pokemon.name() == null) {
+      return serialize(pokemon, etag);
+    }
+    Key key = new Key(translated, pokemon.name().toLowerCase(Locale.ROOT));
+    Entry entry = cache.getIfPresent(key);
+    if (entry == null || !entry.etag().equals(etag)) {
+      entry = serialize(pokemon, etag);
+      cache.put(key, entry);
+    }
+    return entry;
+  }
+
+  private Entry serialize(PokemonDTO pokemon, String etag) {
+    try {
+      byte[] json = objectMapper.writeValueAsBytes(pokemon);
+      return new Entry(etag, json, gzip(json));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize pokemon " + pokemon.name(), e);
+    }
+  }
+
+  private static byte[] gzip(byte[] json) {
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length);
+    try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+      out.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return compressed.toByteArray();
+  }
+
+  public Cache<?, ?> nativeCache() {
+    return cache;
+  }
+
+  private record Key(boolean translated, String name) {}
+
+  /** Serialized response body; the arrays are shared between requests and must not be modified. */
+  public record Entry(String etag, byte[] json, byte[] gzip) {}
+}
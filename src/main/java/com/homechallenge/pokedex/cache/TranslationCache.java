@@ -0,0 +1,183 @@
+package com.homechallenge.pokedex.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache of FunTranslations results keyed by translation type and a digest of the source text.
+ * Failed translations are cached as well, for a much shorter window, so a rate-limited upstream is
+ * not hit again for every request.
+ *
+ * <p>A successful translation is fresh for the TTL and then kept, stale, for a further grace
+ * period; reading it then returns it at once and retranslates in the background.
+ */
+public class TranslationCache {
+
+  private final Cache<Key, Entry> cache;
+  private final Policy.VarExpiration<Key, Entry> expiration;
+  private final LongAdder failureHits = new LongAdder();
+  private final Duration gracePeriod;
+  private final BackgroundRefresher refresher;
+
+  public TranslationCache(long maximumSize, Duration timeToLive, Duration failureTimeToLive) {
+    this(maximumSize, timeToLive, failureTimeToLive, Duration.ZERO, BackgroundRefresher.NONE);
+  }
+
+  public TranslationCache(
+      long maximumSize,
+      Duration timeToLive,
+      Duration failureTimeToLive,
+      Duration gracePeriod,
+      BackgroundRefresher refresher) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(
+                new EntryExpiry(
+                    timeToLive.plus(gracePeriod).toNanos(), failureTimeToLive.toNanos()))
+            .recordStats()
+            .build();
+    this.expiration = cache.policy().expireVariably().orElseThrow();
+    this.gracePeriod = gracePeriod;
+    this.refresher = refresher;
+  }
+
+  /**
+   * @return the cached entry for this text, or null when nothing is cached
+   */
+  public Entry get(String translationType, String text) {
+    Entry entry = cache.getIfPresent(Key.of(translationType, text));
+    if (entry != null && entry.failed()) {
+      failureHits.increment();
+    }
+    return entry;
+  }
+
+  /**
+   * Like {@link #get(String, String)}, but a stale translation also starts a background {@code
+   * retranslate}; a null result or an exception keeps the stale translation.
+   */
+  public Entry get(String translationType, String text, Supplier<String> retranslate) {
+    Key key = Key.of(translationType, text);
+    Entry entry = cache.getIfPresent(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.failed()) {
+      failureHits.increment();
+    } else if (isStale(key)) {
+      refresher.refresh(key, retranslate, translated -> cache.put(key, new Entry(translated)));
+    }
+    return entry;
+  }
+
+  public void putSuccess(String translationType, String text, String translated) {
+    cache.put(Key.of(translationType, text), new Entry(translated));
+  }
+
+  public void putFailure(String translationType, String text) {
+    cache.put(Key.of(translationType, text), Entry.FAILED);
+  }
+
+  private boolean isStale(Key key) {
+    return !gracePeriod.isZero()
+        && expiration
+            .getExpiresAfter(key)
+            .map(remaining -> remaining.compareTo(gracePeriod) < 0)
+            .orElse(false);
+  }
+
+  /** Successful translations with the time each has left; failures are not worth keeping. */
+  List<Persisted> successes() {
+    List<Persisted> successes = new ArrayList<>();
+    cache
+        .asMap()
+        .forEach(
+            (key, entry) -> {
+              if (!entry.failed()) {
+                expiration
+                    .getExpiresAfter(key)
+                    .ifPresent(
+                        remaining ->
+                            successes.add(new Persisted(key, entry.translated(), remaining)));
+              }
+            });
+    return successes;
+  }
+
+  /** Re-adds a successful translation, expiring after {@code remaining} instead of the TTL. */
+  void restore(Key key, String translated, Duration remaining) {
+    expiration.put(key, new Entry(translated), remaining);
+  }
+
+  /** Number of lookups answered by a cached failure. */
+  public long failureHits() {
+    return failureHits.sum();
+  }
+
+  /** Exposes the refresher of stale entries so its activity can be bound to the meter registry. */
+  public BackgroundRefresher refresher() {
+    return refresher;
+  }
+
+  /** Exposes the underlying cache so it can be bound to the meter registry. */
+  public Cache<?, ?> nativeCache() {
+    return cache;
+  }
+
+  /** A cached translation; a null translated text marks a failed attempt. */
+  public record Entry(String translated) {
+    static final Entry FAILED = new Entry(null);
+
+    public boolean failed() {
+      return translated == null;
+    }
+  }
+
+  record Key(String translationType, long digestHigh, long digestLow) {
+
+    static Key of(String translationType, String text) {
+      ByteBuffer digest = ByteBuffer.wrap(sha256(text));
+      return new Key(translationType, digest.getLong(), digest.getLong());
+    }
+
+    private static byte[] sha256(String text) {
+      try {
+        return MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+    }
+  }
+
+  record Persisted(Key key, String translated, Duration remaining) {}
+
+  private record EntryExpiry(long successNanos, long failureNanos) implements Expiry<Key, Entry> {
+
+    @Override
+    public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+      return entry.failed() ? failureNanos : successNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, entry, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
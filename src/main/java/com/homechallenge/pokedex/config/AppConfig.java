@@ -1,8 +1,27 @@
 package com.homechallenge.pokedex.config;
 
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import com.homechallenge.pokedex.metrics.DecodeTimingHttpMessageConverter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
 @Configuration
@@ -11,18 +30,152 @@ public class AppConfig {
   @Value("${pokeapi.base.url}")
   private String pokeApiBaseUrl;
 
+  @Value("${pokeapi.http.max-connections}")
+  private int pokeApiMaxConnections;
+
+  @Value("${pokeapi.http.connect-timeout}")
+  private Duration pokeApiConnectTimeout;
+
+  @Value("${pokeapi.http.read-timeout}")
+  private Duration pokeApiReadTimeout;
+
+  @Value("${pokeapi.http.keep-alive}")
+  private Duration pokeApiKeepAlive;
+
+  @Value("${pokeapi.http.compression}")
+  private boolean pokeApiCompression;
+
   @Value("${funtranslations.base.url}")
   private String funTranslationsBaseUrl;
 
+  @Value("${funtranslations.http.max-connections}")
+  private int funTranslationsMaxConnections;
+
+  @Value("${funtranslations.http.connect-timeout}")
+  private Duration funTranslationsConnectTimeout;
+
+  @Value("${funtranslations.http.read-timeout}")
+  private Duration funTranslationsReadTimeout;
+
+  @Value("${funtranslations.http.keep-alive}")
+  private Duration funTranslationsKeepAlive;
+
+  @Value("${funtranslations.http.compression}")
+  private boolean funTranslationsCompression;
+
+  @Bean(name = "pokeApiHttpClientSettings")
+  public HttpClientSettings pokeApiHttpClientSettings() {
+    return new HttpClientSettings(
+        pokeApiMaxConnections,
+        pokeApiConnectTimeout,
+        pokeApiReadTimeout,
+        pokeApiKeepAlive,
+        pokeApiCompression);
+  }
+
+  @Bean(name = "translationHttpClientSettings")
+  public HttpClientSettings translationHttpClientSettings() {
+    return new HttpClientSettings(
+        funTranslationsMaxConnections,
+        funTranslationsConnectTimeout,
+        funTranslationsReadTimeout,
+        funTranslationsKeepAlive,
+        funTranslationsCompression);
+  }
+
+  @Bean(name = "pokeApiRequestFactory")
+  public HttpComponentsClientHttpRequestFactory pokeApiRequestFactory(
+      @Qualifier("pokeApiHttpClientSettings") HttpClientSettings settings) {
+    return pooledRequestFactory(settings);
+  }
+
+  @Bean(name = "translationRequestFactory")
+  public HttpComponentsClientHttpRequestFactory translationRequestFactory(
+      @Qualifier("translationHttpClientSettings") HttpClientSettings settings) {
+    return pooledRequestFactory(settings);
+  }
+
   @Bean(name = "pokeApiRestClient")
-  public RestClient restClient() {
-    return RestClient.builder().baseUrl(pokeApiBaseUrl).build();
+  public RestClient restClient(
+      @Qualifier("pokeApiRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory,
+      PokedexMetrics metrics) {
+    return RestClient.builder()
+        .baseUrl(pokeApiBaseUrl)
+        .requestFactory(requestFactory)
+        .messageConverters(converters -> timeSpeciesDecoding(converters, metrics))
+        .build();
   }
 
   @Bean(name = "translationRestClient")
-  public RestClient translationRestClient() {
-    RestClient.Builder builder = RestClient.builder().baseUrl(funTranslationsBaseUrl);
+  public RestClient translationRestClient(
+      @Qualifier("translationRequestFactory") HttpComponentsClientHttpRequestFactory requestFactory) {
+    RestClient.Builder builder =
+        RestClient.builder().baseUrl(funTranslationsBaseUrl).requestFactory(requestFactory);
 
     return builder.build();
   }
+
+  /** Puts a timing wrapper around the JSON converter in front of the species reads. */
+  private static void timeSpeciesDecoding(
+      List<HttpMessageConverter<?>> converters, PokedexMetrics metrics) {
+    converters.stream()
+        .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+        .map(MappingJackson2HttpMessageConverter.class::cast)
+        .findFirst()
+        .ifPresent(
+            json ->
+                converters.add(
+                    0,
+                    new DecodeTimingHttpMessageConverter<>(
+                        json, PokemonSpeciesResponse.class, metrics.decodeTimer())));
+  }
+
+  /**
+   * Runs the fan-out of batch lookups. Every lookup blocks on upstream I/O, so each gets a cheap
+   * virtual thread; the per-batch parallelism limit bounds the upstream load.
+   */
+  @Bean(name = "batchExecutor", destroyMethod = "close")
+  public ExecutorService batchExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  /**
+   * Builds a request factory on a pooled Apache HttpClient, so connections to an upstream are
+   * reused and every call is bounded by the connect and read timeouts.
+   */
+  public static HttpComponentsClientHttpRequestFactory pooledRequestFactory(
+      HttpClientSettings settings) {
+    Timeout connectTimeout = Timeout.of(settings.connectTimeout());
+    Timeout readTimeout = Timeout.of(settings.readTimeout());
+    TimeValue keepAlive = TimeValue.of(settings.keepAlive());
+
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(settings.maxConnections())
+            .setMaxConnPerRoute(settings.maxConnections())
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(connectTimeout)
+                    .setSocketTimeout(readTimeout)
+                    .build())
+            .build();
+
+    HttpClientBuilder clientBuilder =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    // waiting for a pooled connection counts against the connect budget
+                    .setConnectionRequestTimeout(connectTimeout)
+                    .setResponseTimeout(readTimeout)
+                    .build())
+            .setKeepAliveStrategy((response, context) -> keepAlive)
+            .evictExpiredConnections()
+            .evictIdleConnections(keepAlive);
+    if (!settings.compression()) {
+      clientBuilder.disableContentCompression();
+    }
+
+    return new HttpComponentsClientHttpRequestFactory(clientBuilder.build());
+  }
 }
@@ -0,0 +1,214 @@
+package com.homechallenge.pokedex.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.cache.BackgroundRefresher;
+import com.homechallenge.pokedex.cache.CacheSnapshotStore;
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.SerializedResponseCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+  @Value("${pokeapi.cache.max-size}")
+  private long pokemonCacheMaxSize;
+
+  @Value("${pokeapi.cache.ttl}")
+  private Duration pokemonCacheTtl;
+
+  @Value("${pokeapi.cache.grace}")
+  private Duration pokemonCacheGrace;
+
+  @Value("${pokeapi.cache.refresh.max-concurrent}")
+  private int pokemonRefreshMaxConcurrent;
+
+  @Value("${pokeapi.cache.not-found.max-size}")
+  private long notFoundCacheMaxSize;
+
+  @Value("${pokeapi.cache.not-found.ttl}")
+  private Duration notFoundCacheTtl;
+
+  @Value("${funtranslations.cache.max-size}")
+  private long translationCacheMaxSize;
+
+  @Value("${funtranslations.cache.ttl}")
+  private Duration translationCacheTtl;
+
+  @Value("${funtranslations.cache.failure-ttl}")
+  private Duration translationCacheFailureTtl;
+
+  @Value("${funtranslations.cache.grace}")
+  private Duration translationCacheGrace;
+
+  @Value("${funtranslations.cache.refresh.max-concurrent}")
+  private int translationRefreshMaxConcurrent;
+
+  @Value("${pokedex.response-cache.enabled}")
+  private boolean responseCacheEnabled;
+
+  @Value("${pokedex.response-cache.max-size}")
+  private long responseCacheMaxSize;
+
+  @Value("${pokedex.snapshot.path}")
+  private String snapshotPath;
+
+  @Value("${pokedex.warmup.enabled}")
+  private boolean warmupEnabled;
+
+  @Value("${pokedex.warmup.stats-enabled}")
+  private boolean requestStatisticsEnabled;
+
+  @Value("${pokedex.warmup.stats-path}")
+  private String requestStatisticsPath;
+
+  /** Runs background reloads of stale entries; each one mostly waits on an upstream. */
+  @Bean(name = "cacheRefreshExecutor", destroyMethod = "close")
+  public ExecutorService cacheRefreshExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @Bean
+  public PokemonCache pokemonCache(
+      @Qualifier("cacheRefreshExecutor") ExecutorService cacheRefreshExecutor) {
+    return new PokemonCache(
+        pokemonCacheMaxSize,
+        pokemonCacheTtl,
+        pokemonCacheGrace,
+        new BackgroundRefresher(
+            "pokemon-species", cacheRefreshExecutor, pokemonRefreshMaxConcurrent));
+  }
+
+  @Bean
+  public MeterBinder pokemonCacheMetrics(PokemonCache pokemonCache) {
+    return registry -> {
+      CaffeineCacheMetrics.monitor(registry, pokemonCache.nativeCache(), "pokemon-species");
+      bindRefreshMetrics(registry, pokemonCache.refresher());
+    };
+  }
+
+  /** Confirmed PokeAPI misses; a zero max-size or ttl disables it. */
+  @Bean
+  public NotFoundCache notFoundCache() {
+    if (notFoundCacheMaxSize <= 0 || notFoundCacheTtl.isZero()) {
+      return NotFoundCache.DISABLED;
+    }
+    return new NotFoundCache(notFoundCacheMaxSize, notFoundCacheTtl);
+  }
+
+  @Bean
+  public MeterBinder notFoundCacheMetrics(NotFoundCache notFoundCache) {
+    return registry -> {
+      if (notFoundCache.enabled()) {
+        CaffeineCacheMetrics.monitor(registry, notFoundCache.nativeCache(), "pokemon-not-found");
+      }
+    };
+  }
+
+  @Bean
+  public TranslationCache translationCache(
+      @Qualifier("cacheRefreshExecutor") ExecutorService cacheRefreshExecutor) {
+    return new TranslationCache(
+        translationCacheMaxSize,
+        translationCacheTtl,
+        translationCacheFailureTtl,
+        translationCacheGrace,
+        new BackgroundRefresher(
+            "translations", cacheRefreshExecutor, translationRefreshMaxConcurrent));
+  }
+
+  @Bean
+  public MeterBinder translationCacheMetrics(TranslationCache translationCache) {
+    return registry -> {
+      CaffeineCacheMetrics.monitor(registry, translationCache.nativeCache(), "translations");
+      FunctionCounter.builder(
+              "translation.cache.failure.hits", translationCache, TranslationCache::failureHits)
+          .description("Lookups answered by a cached translation failure")
+          .register(registry);
+      bindRefreshMetrics(registry, translationCache.refresher());
+    };
+  }
+
+  /** Serialized with the same ObjectMapper Spring writes responses with, so the bytes match. */
+  @Bean
+  public SerializedResponseCache serializedResponseCache(ObjectMapper objectMapper) {
+    if (!responseCacheEnabled) {
+      return SerializedResponseCache.DISABLED;
+    }
+    return new SerializedResponseCache(responseCacheMaxSize, objectMapper);
+  }
+
+  @Bean
+  public MeterBinder serializedResponseCacheMetrics(
+      SerializedResponseCache serializedResponseCache) {
+    return registry -> {
+      if (serializedResponseCache.enabled()) {
+        CaffeineCacheMetrics.monitor(
+            registry, serializedResponseCache.nativeCache(), "serialized-responses");
+      }
+    };
+  }
+
+  private static void bindRefreshMetrics(MeterRegistry registry, BackgroundRefresher refresher) {
+    refreshCounter(registry, refresher, "success", BackgroundRefresher::successes);
+    refreshCounter(registry, refresher, "failure", BackgroundRefresher::failures);
+    refreshCounter(registry, refresher, "rejected", BackgroundRefresher::rejections);
+    Gauge.builder("cache.refreshes.active", refresher, BackgroundRefresher::active)
+        .description("Background refreshes of stale entries currently running")
+        .tag("cache", refresher.name())
+        .register(registry);
+  }
+
+  private static void refreshCounter(
+      MeterRegistry registry,
+      BackgroundRefresher refresher,
+      String result,
+      ToDoubleFunction<BackgroundRefresher> count) {
+    FunctionCounter.builder("cache.refreshes", refresher, count)
+        .description("Background refreshes of stale entries, by outcome")
+        .tag("cache", refresher.name())
+        .tag("result", result)
+        .register(registry);
+  }
+
+  /** Lookups per species, persisted for the warm-up; only counted when the warm-up is enabled. */
+  @Bean
+  public RequestStatistics requestStatistics() {
+    if (!warmupEnabled || !requestStatisticsEnabled) {
+      return RequestStatistics.NONE;
+    }
+    if (requestStatisticsPath == null || requestStatisticsPath.isBlank()) {
+      throw new IllegalStateException(
+          "pokedex.warmup.stats-path (REQUEST_STATS_PATH) must be set when request statistics are"
+              + " enabled");
+    }
+    return new RequestStatistics(Path.of(requestStatisticsPath));
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "pokedex.snapshot.enabled", havingValue = "true")
+  public CacheSnapshotStore cacheSnapshotStore(
+      PokemonCache pokemonCache, TranslationCache translationCache) {
+    if (snapshotPath == null || snapshotPath.isBlank()) {
+      throw new IllegalStateException(
+          "pokedex.snapshot.path (CACHE_SNAPSHOT_PATH) must be set when the snapshot is enabled");
+    }
+    return new CacheSnapshotStore(Path.of(snapshotPath), pokemonCache, translationCache);
+  }
+}
@@ -0,0 +1,19 @@
+package com.homechallenge.pokedex.config;
+
+import java.time.Duration;
+
+/**
+ * Transport settings for one upstream HTTP client.
+ *
+ * @param maxConnections pooled connections kept for the upstream
+ * @param connectTimeout bound on establishing (or leasing) a connection
+ * @param readTimeout bound on waiting for response data
+ * @param keepAlive how long an idle connection is kept for reuse
+ * @param compression whether to request and transparently decode gzip/deflate responses
+ */
+public record HttpClientSettings(
+    int maxConnections,
+    Duration connectTimeout,
+    Duration readTimeout,
+    Duration keepAlive,
+    boolean compression) {}
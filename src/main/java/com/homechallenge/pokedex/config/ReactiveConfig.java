@@ -0,0 +1,100 @@
+package com.homechallenge.pokedex.config;
+
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import com.homechallenge.pokedex.metrics.DecodeTimingJackson2JsonDecoder;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/** Non-blocking upstream clients for the reactive profile, tuned by the same settings. */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+  // species payloads are tens of KB; leave headroom over the 256 KB codec default
+  private static final int MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;
+
+  @Value("${pokeapi.base.url}")
+  private String pokeApiBaseUrl;
+
+  @Value("${funtranslations.base.url}")
+  private String funTranslationsBaseUrl;
+
+  /**
+   * Serves requests from Netty's event loops. Tomcat stays on the classpath for the servlet stack
+   * and would otherwise be picked to host the reactive handler.
+   */
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  @Bean(name = "pokeApiConnectionProvider", destroyMethod = "dispose")
+  public ConnectionProvider pokeApiConnectionProvider(
+      @Qualifier("pokeApiHttpClientSettings") HttpClientSettings settings) {
+    return connectionProvider("pokeapi", settings);
+  }
+
+  @Bean(name = "translationConnectionProvider", destroyMethod = "dispose")
+  public ConnectionProvider translationConnectionProvider(
+      @Qualifier("translationHttpClientSettings") HttpClientSettings settings) {
+    return connectionProvider("funtranslations", settings);
+  }
+
+  @Bean(name = "pokeApiWebClient")
+  public WebClient pokeApiWebClient(
+      @Qualifier("pokeApiConnectionProvider") ConnectionProvider connectionProvider,
+      @Qualifier("pokeApiHttpClientSettings") HttpClientSettings settings,
+      PokedexMetrics metrics) {
+    return webClient(pokeApiBaseUrl, connectionProvider, settings)
+        .mutate()
+        .codecs(
+            codecs ->
+                codecs
+                    .defaultCodecs()
+                    .jackson2JsonDecoder(
+                        new DecodeTimingJackson2JsonDecoder(
+                            PokemonSpeciesResponse.class, metrics.decodeTimer())))
+        .build();
+  }
+
+  @Bean(name = "translationWebClient")
+  public WebClient translationWebClient(
+      @Qualifier("translationConnectionProvider") ConnectionProvider connectionProvider,
+      @Qualifier("translationHttpClientSettings") HttpClientSettings settings) {
+    return webClient(funTranslationsBaseUrl, connectionProvider, settings);
+  }
+
+  private static ConnectionProvider connectionProvider(String name, HttpClientSettings settings) {
+    return ConnectionProvider.builder(name)
+        .maxConnections(settings.maxConnections())
+        .pendingAcquireTimeout(settings.connectTimeout())
+        .maxIdleTime(settings.keepAlive())
+        .build();
+  }
+
+  private static WebClient webClient(
+      String baseUrl, ConnectionProvider connectionProvider, HttpClientSettings settings) {
+    HttpClient httpClient =
+        HttpClient.create(connectionProvider)
+            .option(
+                ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.connectTimeout().toMillis())
+            .responseTimeout(settings.readTimeout())
+            .compress(settings.compression());
+
+    return WebClient.builder()
+        .baseUrl(baseUrl)
+        .clientConnector(new ReactorClientHttpConnector(httpClient))
+        .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+        .build();
+  }
+}
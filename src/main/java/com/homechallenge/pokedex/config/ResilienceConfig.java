@@ -0,0 +1,239 @@
+package com.homechallenge.pokedex.config;
+
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.AimdLimiter;
+import com.homechallenge.pokedex.resilience.CircuitBreaker;
+import com.homechallenge.pokedex.resilience.ClientRateLimiter;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ResilienceConfig {
+
+  @Value("${funtranslations.circuit-breaker.failure-threshold}")
+  private int failureThreshold;
+
+  @Value("${funtranslations.circuit-breaker.open-duration}")
+  private Duration openDuration;
+
+  @Value("${funtranslations.circuit-breaker.max-open-duration}")
+  private Duration maxOpenDuration;
+
+  @Value("${funtranslations.limiter.initial-limit}")
+  private int initialLimit;
+
+  @Value("${funtranslations.limiter.min-limit}")
+  private int minLimit;
+
+  @Value("${funtranslations.limiter.max-limit}")
+  private int maxLimit;
+
+  @Value("${funtranslations.limiter.latency-threshold}")
+  private Duration latencyThreshold;
+
+  @Value("${funtranslations.limiter.backoff-ratio}")
+  private double backoffRatio;
+
+  @Value("${pokeapi.hedge.enabled}")
+  private boolean hedgeEnabled;
+
+  @Value("${pokeapi.hedge.percentile}")
+  private double hedgePercentile;
+
+  @Value("${pokeapi.hedge.min-delay}")
+  private Duration hedgeMinDelay;
+
+  @Value("${pokeapi.hedge.max-delay}")
+  private Duration hedgeMaxDelay;
+
+  @Value("${pokeapi.hedge.budget}")
+  private double hedgeBudget;
+
+  @Value("${pokeapi.hedge.window}")
+  private int hedgeWindow;
+
+  @Value("${pokedex.rate-limit.plain.permits}")
+  private int plainRatePermits;
+
+  @Value("${pokedex.rate-limit.plain.period}")
+  private Duration plainRatePeriod;
+
+  @Value("${pokedex.rate-limit.plain.burst}")
+  private int plainRateBurst;
+
+  @Value("${pokedex.rate-limit.translated.permits}")
+  private int translatedRatePermits;
+
+  @Value("${pokedex.rate-limit.translated.period}")
+  private Duration translatedRatePeriod;
+
+  @Value("${pokedex.rate-limit.translated.burst}")
+  private int translatedRateBurst;
+
+  @Value("${pokedex.rate-limit.max-clients}")
+  private long rateLimitMaxClients;
+
+  @Value("${pokedex.rate-limit.idle-timeout}")
+  private Duration rateLimitIdleTimeout;
+
+  @Bean(name = "translationGuard")
+  public UpstreamGuard translationGuard() {
+    return new UpstreamGuard(
+        "funtranslations",
+        new CircuitBreaker(failureThreshold, openDuration, maxOpenDuration),
+        new AimdLimiter(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio));
+  }
+
+  @Bean
+  public MeterBinder translationGuardMetrics(
+      @Qualifier("translationGuard") UpstreamGuard translationGuard) {
+    CircuitBreaker circuitBreaker = translationGuard.circuitBreaker();
+    AimdLimiter limiter = translationGuard.limiter();
+    return registry -> {
+      Gauge.builder("pokedex.upstream.circuit.state", circuitBreaker, b -> b.state().ordinal())
+          .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+          .tag("upstream", translationGuard.name())
+          .register(registry);
+      FunctionCounter.builder(
+              "pokedex.upstream.circuit.opened", circuitBreaker, CircuitBreaker::openedCount)
+          .description("Times the circuit breaker opened")
+          .tag("upstream", translationGuard.name())
+          .register(registry);
+      FunctionCounter.builder(
+              "pokedex.upstream.rejections", circuitBreaker, CircuitBreaker::rejectedCount)
+          .description("Calls not made because the upstream was guarded")
+          .tag("upstream", translationGuard.name())
+          .tag("reason", UpstreamGuard.CIRCUIT_OPEN)
+          .register(registry);
+      FunctionCounter.builder("pokedex.upstream.rejections", limiter, AimdLimiter::rejectedCount)
+          .description("Calls not made because the upstream was guarded")
+          .tag("upstream", translationGuard.name())
+          .tag("reason", UpstreamGuard.CONCURRENCY_LIMIT)
+          .register(registry);
+      Gauge.builder("pokedex.upstream.concurrency.limit", limiter, AimdLimiter::limit)
+          .description("Current adaptive limit on concurrent calls")
+          .tag("upstream", translationGuard.name())
+          .register(registry);
+      Gauge.builder("pokedex.upstream.concurrency.in.flight", limiter, AimdLimiter::inFlight)
+          .description("Calls currently in flight")
+          .tag("upstream", translationGuard.name())
+          .register(registry);
+    };
+  }
+
+  /** Runs blocking PokeAPI attempts while the request thread waits for the first to answer. */
+  @Bean(name = "hedgeExecutor", destroyMethod = "close")
+  public ExecutorService hedgeExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @Bean(name = "pokeApiHedger")
+  public Hedger pokeApiHedger(@Qualifier("hedgeExecutor") ExecutorService hedgeExecutor) {
+    if (!hedgeEnabled) {
+      return Hedger.DISABLED;
+    }
+    return new Hedger(
+        hedgeExecutor, hedgePercentile, hedgeMinDelay, hedgeMaxDelay, hedgeBudget, hedgeWindow);
+  }
+
+  @Bean
+  public MeterBinder pokeApiHedgerMetrics(@Qualifier("pokeApiHedger") Hedger hedger) {
+    return registry -> {
+      FunctionCounter.builder("pokedex.upstream.hedges", hedger, Hedger::hedges)
+          .description("Hedge requests sent because the first attempt was slow")
+          .tag("upstream", PokedexMetrics.POKEAPI)
+          .register(registry);
+      FunctionCounter.builder("pokedex.upstream.hedge.wins", hedger, Hedger::hedgeWins)
+          .description("Hedge requests that answered before the attempt they hedged")
+          .tag("upstream", PokedexMetrics.POKEAPI)
+          .register(registry);
+      FunctionCounter.builder("pokedex.upstream.hedges.over.budget", hedger, Hedger::overBudget)
+          .description("Slow attempts not hedged because the hedge budget was spent")
+          .tag("upstream", PokedexMetrics.POKEAPI)
+          .register(registry);
+      TimeGauge.builder(
+              "pokedex.upstream.hedge.delay",
+              hedger,
+              TimeUnit.NANOSECONDS,
+              h -> h.delay().toNanos())
+          .description("Current wait before a hedge request is sent")
+          .tag("upstream", PokedexMetrics.POKEAPI)
+          .register(registry);
+    };
+  }
+
+  /**
+   * Reports the translation guard under {@code /actuator/health}. An open circuit leaves the
+   * service UP, since translated lookups still answer with the original description.
+   */
+  @Bean
+  public HealthIndicator translationsHealthIndicator(
+      @Qualifier("translationGuard") UpstreamGuard translationGuard) {
+    return () ->
+        Health.up()
+            .withDetail("circuit", translationGuard.circuitBreaker().state())
+            .withDetail("concurrencyLimit", translationGuard.limiter().limit())
+            .withDetail("inFlight", translationGuard.limiter().inFlight())
+            .build();
+  }
+
+  @Bean(name = "plainRateLimiter")
+  @ConditionalOnProperty(name = "pokedex.rate-limit.enabled", havingValue = "true")
+  public ClientRateLimiter plainRateLimiter() {
+    return new ClientRateLimiter(
+        "plain",
+        plainRatePermits,
+        plainRatePeriod,
+        plainRateBurst,
+        rateLimitMaxClients,
+        rateLimitIdleTimeout);
+  }
+
+  @Bean(name = "translatedRateLimiter")
+  @ConditionalOnProperty(name = "pokedex.rate-limit.enabled", havingValue = "true")
+  public ClientRateLimiter translatedRateLimiter() {
+    return new ClientRateLimiter(
+        "translated",
+        translatedRatePermits,
+        translatedRatePeriod,
+        translatedRateBurst,
+        rateLimitMaxClients,
+        rateLimitIdleTimeout);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "pokedex.rate-limit.enabled", havingValue = "true")
+  public MeterBinder rateLimitMetrics(
+      @Qualifier("plainRateLimiter") ClientRateLimiter plainRateLimiter,
+      @Qualifier("translatedRateLimiter") ClientRateLimiter translatedRateLimiter) {
+    return registry -> {
+      for (ClientRateLimiter limiter : List.of(plainRateLimiter, translatedRateLimiter)) {
+        FunctionCounter.builder(
+                "pokedex.rate.limit.rejections", limiter, ClientRateLimiter::rejections)
+            .description("Requests answered 429 because the client's budget was spent")
+            .tag("budget", limiter.name())
+            .register(registry);
+        Gauge.builder("pokedex.rate.limit.clients", limiter, ClientRateLimiter::clients)
+            .description("Clients holding a rate limit bucket")
+            .tag("budget", limiter.name())
+            .register(registry);
+      }
+    };
+  }
+}
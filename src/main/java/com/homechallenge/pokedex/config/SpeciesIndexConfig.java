@@ -0,0 +1,115 @@
+package com.homechallenge.pokedex.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.index.BundledSpeciesNames;
+import com.homechallenge.pokedex.index.SpeciesDumpLoader;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@Slf4j
+public class SpeciesIndexConfig {
+
+  @Value("${pokeapi.dump.path}")
+  private String dumpPath;
+
+  @Value("${pokeapi.offline}")
+  private boolean offline;
+
+  @Value("${pokeapi.name-filter.enabled}")
+  private boolean nameFilterEnabled;
+
+  @Value("${pokeapi.name-filter.expected-names}")
+  private long nameFilterExpectedNames;
+
+  @Value("${pokeapi.name-filter.false-positive-rate}")
+  private double nameFilterFalsePositiveRate;
+
+  @Value("${pokeapi.name-filter.memory}")
+  private DataSize nameFilterMemory;
+
+  /** The species of the configured PokeAPI dump, or an empty index when none is configured. */
+  @Bean
+  public SpeciesIndex speciesIndex(ObjectMapper objectMapper) throws IOException {
+    if (dumpPath == null || dumpPath.isBlank()) {
+      if (offline) {
+        throw new IllegalStateException("pokeapi.offline requires pokeapi.dump.path to be set");
+      }
+      return SpeciesIndex.EMPTY;
+    }
+    return new SpeciesDumpLoader(objectMapper).load(Path.of(dumpPath));
+  }
+
+  @Bean
+  public MeterBinder speciesIndexMetrics(SpeciesIndex speciesIndex) {
+    return registry -> {
+      Gauge.builder("pokedex.species.index.size", speciesIndex, SpeciesIndex::size)
+          .description("Species held in the local index")
+          .register(registry);
+      Gauge.builder("pokedex.species.index.memory", speciesIndex, SpeciesIndex::estimatedBytes)
+          .description("Approximate heap retained by the local species index")
+          .baseUnit("bytes")
+          .register(registry);
+    };
+  }
+
+  /** Seeded with the bundled species names; DISABLED lets every name through to PokeAPI. */
+  @Bean
+  public SpeciesNameFilter speciesNameFilter() throws IOException {
+    if (!nameFilterEnabled) {
+      return SpeciesNameFilter.DISABLED;
+    }
+    List<String> names = BundledSpeciesNames.load();
+    SpeciesNameFilter filter =
+        SpeciesNameFilter.create(
+            Math.max(nameFilterExpectedNames, names.size()),
+            nameFilterFalsePositiveRate,
+            nameFilterMemory.toBytes());
+    names.forEach(filter::add);
+    log.info(
+        "Species name filter seeded with {} names: {} bytes, {} hashes, false-positive rate {}",
+        names.size(),
+        filter.byteSize(),
+        filter.hashCount(),
+        String.format("%.2e", filter.expectedFalsePositiveRate()));
+    return filter;
+  }
+
+  @Bean
+  public MeterBinder speciesNameFilterMetrics(SpeciesNameFilter speciesNameFilter) {
+    return registry -> {
+      if (!speciesNameFilter.enabled()) {
+        return;
+      }
+      Gauge.builder("pokedex.name.filter.memory", speciesNameFilter, SpeciesNameFilter::byteSize)
+          .description("Size of the species name Bloom filter")
+          .baseUnit("bytes")
+          .register(registry);
+      Gauge.builder(
+              "pokedex.name.filter.false.positive.rate",
+              speciesNameFilter,
+              SpeciesNameFilter::expectedFalsePositiveRate)
+          .description("Chance that an unknown name passes the filter, at its current fill")
+          .register(registry);
+      Gauge.builder(
+              "pokedex.name.filter.names", speciesNameFilter, SpeciesNameFilter::approximateNames)
+          .description("Names held by the species name filter, estimated from its fill")
+          .register(registry);
+      FunctionCounter.builder(
+              "pokedex.name.filter.rejections", speciesNameFilter, SpeciesNameFilter::rejections)
+          .description("Lookups answered not found by the filter without calling PokeAPI")
+          .register(registry);
+    };
+  }
+}
@@ -0,0 +1,31 @@
+package com.homechallenge.pokedex.config;
+
+import com.homechallenge.pokedex.translation.DictionaryTranslator;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Slf4j
+public class TranslationConfig {
+
+  @Value("${pokedex.translation.local.mode}")
+  private LocalTranslation.Mode localTranslationMode;
+
+  /**
+   * The in-process translator, its dictionaries loaded once here. It is the fallback by default, so
+   * a failed translation returns a dictionary translation, not the original description, unless the
+   * mode is set to disabled.
+   */
+  @Bean
+  public LocalTranslation localTranslation() throws IOException {
+    if (localTranslationMode == LocalTranslation.Mode.DISABLED) {
+      return LocalTranslation.DISABLED;
+    }
+    log.info("Local translation enabled as {}", localTranslationMode);
+    return new LocalTranslation(DictionaryTranslator.load(), localTranslationMode);
+  }
+}
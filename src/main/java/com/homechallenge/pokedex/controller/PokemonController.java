@@ -1,38 +1,61 @@
 package com.homechallenge.pokedex.controller;
 
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
 import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSearchResponse;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import com.homechallenge.pokedex.service.PokemonBatchService;
+import com.homechallenge.pokedex.service.PokemonSearchService;
 import com.homechallenge.pokedex.service.PokemonService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
  * REST controller for Pokemon-related endpoints. Provides access to Pokemon information and
- * translated descriptions.
+ * translated descriptions. Replaced by {@link ReactivePokemonController} under the {@code reactive}
+ * profile.
  */
 @RestController
 @RequestMapping("/pokemon")
+@Profile("!reactive")
 @RequiredArgsConstructor
 @Slf4j
 public class PokemonController {
 
   private final PokemonService pokemonService;
+  private final PokemonBatchService pokemonBatchService;
+  private final PokemonSearchService pokemonSearchService;
+  private final PokemonResponseCaching responseCaching;
+  private final RequestStatistics requestStatistics;
 
   /**
    * Retrieves basic Pokemon information by name.
    *
    * @param name the name of the Pokemon (case-insensitive)
-   * @return ResponseEntity containing the Pokemon data with standard description
+   * @param acceptEncoding gzip is honoured when responses are served from the serialized cache
+   * @return ResponseEntity containing the Pokemon data with standard description, or 304 when the
+   *     client's If-None-Match still matches
    */
   @GetMapping("/{name}")
-  public ResponseEntity<PokemonDTO> getPokemon(@PathVariable String name) {
-    log.info("Received request for pokemon: {}", name);
+  public ResponseEntity<?> getPokemon(
+      @PathVariable String name,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    log.debug("Received request for pokemon: {}", name);
     PokemonDTO pokemon = pokemonService.getPokemonByName(name);
-    return ResponseEntity.ok(pokemon);
+    requestStatistics.record(pokemon.name());
+    return responseCaching.ok(pokemon, false, acceptEncoding);
   }
 
   /**
@@ -40,12 +63,50 @@ public class PokemonController {
    * legendary/cave Pokemon, Shakespeare translator for others.
    *
    * @param name the name of the Pokemon (case-insensitive)
-   * @return ResponseEntity containing the Pokemon data with translated description
+   * @param acceptEncoding gzip is honoured when responses are served from the serialized cache
+   * @return ResponseEntity containing the Pokemon data with translated description, or 304 when the
+   *     client's If-None-Match still matches
    */
   @GetMapping("/translated/{name}")
-  public ResponseEntity<PokemonDTO> getTranslatedPokemon(@PathVariable String name) {
-    log.info("Received request for translated pokemon: {}", name);
+  public ResponseEntity<?> getTranslatedPokemon(
+      @PathVariable String name,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    log.debug("Received request for translated pokemon: {}", name);
     PokemonDTO pokemon = pokemonService.getTranslatedPokemonByName(name);
-    return ResponseEntity.ok(pokemon);
+    requestStatistics.record(pokemon.name());
+    return responseCaching.ok(pokemon, true, acceptEncoding);
+  }
+
+  /**
+   * Retrieves several Pokemon in one call. Names that cannot be resolved are reported in the
+   * response errors and do not fail the rest of the batch.
+   *
+   * @param request the names to look up and whether to translate their descriptions
+   * @return ResponseEntity containing the resolved Pokemon and the per-name errors
+   */
+  @PostMapping("/batch")
+  public ResponseEntity<PokemonBatchResponse> getPokemonBatch(
+      @RequestBody PokemonBatchRequest request) {
+    log.debug(
+        "Received batch request for {} pokemon",
+        request.names() == null ? 0 : request.names().size());
+    PokemonBatchResponse response = pokemonBatchService.getPokemonBatch(request);
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Suggests species names for a partial or misspelled name, from memory and without calling
+   * PokeAPI.
+   *
+   * @param query a name prefix, or a name with a typo or two
+   * @param limit the maximum number of suggestions, capped by pokedex.search.max-results
+   * @return ResponseEntity containing the suggested names, best first
+   */
+  @GetMapping("/search")
+  public ResponseEntity<PokemonSearchResponse> searchPokemon(
+      @RequestParam("q") String query,
+      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+    log.debug("Received search for: {}", query);
+    return ResponseEntity.ok(pokemonSearchService.search(query, limit));
   }
 }
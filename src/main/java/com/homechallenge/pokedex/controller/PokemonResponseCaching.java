@@ -0,0 +1,118 @@
+package com.homechallenge.pokedex.controller;
+
+import com.homechallenge.pokedex.cache.SerializedResponseCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds a strong ETag and Cache-Control to Pokemon responses. The ETag is a hash of the DTO fields,
+ * so it is computed without serializing the body; Spring answers a matching If-None-Match with a
+ * 304 and never writes the body.
+ *
+ * <p>With the {@link SerializedResponseCache} enabled the body is the cached JSON, or its gzip
+ * variant when the client accepts it, instead of the DTO for Jackson to serialize.
+ */
+@Component
+public class PokemonResponseCaching {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final CacheControl plainCacheControl;
+  private final CacheControl translatedCacheControl;
+  private final SerializedResponseCache serializedResponses;
+
+  public PokemonResponseCaching(
+      @Value("${pokedex.http-cache.max-age}") Duration plainMaxAge,
+      @Value("${pokedex.http-cache.translated-max-age}") Duration translatedMaxAge,
+      SerializedResponseCache serializedResponses) {
+    this.plainCacheControl = cacheControl(plainMaxAge);
+    this.translatedCacheControl = cacheControl(translatedMaxAge);
+    this.serializedResponses = serializedResponses;
+  }
+
+  /**
+   * @param acceptEncoding the request's Accept-Encoding header, may be null
+   * @return the DTO, or its serialized bytes when the serialized response cache is enabled
+   */
+  public ResponseEntity<?> ok(PokemonDTO pokemon, boolean translated, String acceptEncoding) {
+    String etag = etag(pokemon);
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok().cacheControl(translated ? translatedCacheControl : plainCacheControl);
+    if (!serializedResponses.enabled()) {
+      return response.eTag(etag).body(pokemon);
+    }
+    SerializedResponseCache.Entry serialized = serializedResponses.get(translated, pokemon, etag);
+    response.contentType(MediaType.APPLICATION_JSON).varyBy(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptsGzip(acceptEncoding)) {
+      // a strong ETag is per representation, so the compressed body gets its own
+      return response
+          .eTag(gzipEtag(etag))
+          .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+          .body(serialized.gzip());
+    }
+    return response.eTag(etag).body(serialized.json());
+  }
+
+  /** Quoted 64-bit FNV-1a hash of every field that reaches the JSON body. */
+  static String etag(PokemonDTO pokemon) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = mix(hash, Long.toString(pokemon.id()));
+    hash = mix(hash, pokemon.name());
+    hash = mix(hash, pokemon.description());
+    hash = mix(hash, pokemon.habitat());
+    hash = mix(hash, pokemon.legendary() ? "1" : "0");
+    return "\"" + Long.toHexString(hash) + "\"";
+  }
+
+  private static String gzipEtag(String etag) {
+    return etag.substring(0, etag.length() - 1) + "-gzip\"";
+  }
+
+  private static long mix(long hash, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+      }
+    }
+    // field separator, so ("ab", "c") and ("a", "bc") differ
+    return (hash ^ (value == null ? 0xFFFE : 0xFFFF)) * FNV_PRIME;
+  }
+
+  /** True when {@code gzip} (or {@code *}) is listed without {@code q=0}. */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      String name = parts[0].trim();
+      if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+        return parts.length < 2 || !isZeroQuality(parts[1]);
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZeroQuality(String parameter) {
+    String value = parameter.trim();
+    if (!value.startsWith("q=")) {
+      return false;
+    }
+    try {
+      return Double.parseDouble(value.substring(2)) == 0;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static CacheControl cacheControl(Duration maxAge) {
+    return maxAge.isZero() ? CacheControl.noCache() : CacheControl.maxAge(maxAge).cachePublic();
+  }
+}
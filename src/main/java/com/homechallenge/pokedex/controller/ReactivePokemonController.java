@@ -0,0 +1,80 @@
+package com.homechallenge.pokedex.controller;
+
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
+import com.homechallenge.pokedex.dto.PokemonSearchResponse;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import com.homechallenge.pokedex.service.PokemonSearchService;
+import com.homechallenge.pokedex.service.ReactivePokemonService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link PokemonController}, active with the {@code reactive} profile. Same
+ * paths and same JSON; responses are written once the upstream calls complete, without parking a
+ * request thread in the meantime.
+ */
+@RestController
+@RequestMapping("/pokemon")
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePokemonController {
+
+  private final ReactivePokemonService pokemonService;
+  private final PokemonSearchService pokemonSearchService;
+  private final PokemonResponseCaching responseCaching;
+  private final RequestStatistics requestStatistics;
+
+  @GetMapping("/{name}")
+  public Mono<ResponseEntity<?>> getPokemon(
+      @PathVariable String name,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    log.debug("Received request for pokemon: {}", name);
+    return pokemonService
+        .getPokemonByName(name)
+        .doOnNext(pokemon -> requestStatistics.record(pokemon.name()))
+        .map(pokemon -> responseCaching.ok(pokemon, false, acceptEncoding));
+  }
+
+  @GetMapping("/translated/{name}")
+  public Mono<ResponseEntity<?>> getTranslatedPokemon(
+      @PathVariable String name,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    log.debug("Received request for translated pokemon: {}", name);
+    return pokemonService
+        .getTranslatedPokemonByName(name)
+        .doOnNext(pokemon -> requestStatistics.record(pokemon.name()))
+        .map(pokemon -> responseCaching.ok(pokemon, true, acceptEncoding));
+  }
+
+  @PostMapping("/batch")
+  public Mono<ResponseEntity<PokemonBatchResponse>> getPokemonBatch(
+      @RequestBody PokemonBatchRequest request) {
+    log.debug(
+        "Received batch request for {} pokemon",
+        request.names() == null ? 0 : request.names().size());
+    return pokemonService.getPokemonBatch(request).map(ResponseEntity::ok);
+  }
+
+  /** Answered in memory in microseconds, so it runs on the event loop. */
+  @GetMapping("/search")
+  public Mono<ResponseEntity<PokemonSearchResponse>> searchPokemon(
+      @RequestParam("q") String query,
+      @RequestParam(value = "limit", defaultValue = "10") int limit) {
+    log.debug("Received search for: {}", query);
+    return Mono.fromSupplier(() -> ResponseEntity.ok(pokemonSearchService.search(query, limit)));
+  }
+}
@@ -0,0 +1,10 @@
+package com.homechallenge.pokedex.dto;
+
+/**
+ * A failed item of a batch lookup.
+ *
+ * @param name the requested name
+ * @param status the HTTP status the single-item endpoint would have answered with
+ * @param message a human-readable reason
+ */
+public record PokemonBatchError(String name, int status, String message) {}
@@ -0,0 +1,11 @@
+package com.homechallenge.pokedex.dto;
+
+import java.util.List;
+
+/**
+ * Body of a batch lookup.
+ *
+ * @param names the Pokemon names to look up (case-insensitive, duplicates are fetched once)
+ * @param translated whether to return fun-translated descriptions
+ */
+public record PokemonBatchRequest(List<String> names, boolean translated) {}
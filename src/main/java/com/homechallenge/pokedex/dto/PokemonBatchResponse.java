@@ -0,0 +1,9 @@
+package com.homechallenge.pokedex.dto;
+
+import java.util.List;
+
+/**
+ * Result of a batch lookup: the Pokemon that could be resolved, in request order, plus one error
+ * per name that could not.
+ */
+public record PokemonBatchResponse(List<PokemonDTO> results, List<PokemonBatchError> errors) {}
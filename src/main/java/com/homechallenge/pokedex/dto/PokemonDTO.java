@@ -1,20 +1,20 @@
 package com.homechallenge.pokedex.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+/**
+ * A species as served by the API. Immutable, so one instance is shared by the caches and every
+ * request that reads it; a translated copy is derived with {@link #withDescription(String)}.
+ *
+ * <p>Habitats come from a handful of values, so they are interned: every cached species in the same
+ * habitat references one string instead of its own copy from the upstream payload.
+ */
+public record PokemonDTO(
+    long id, String name, String description, String habitat, boolean legendary) {
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class PokemonDTO {
-  private Long id;
+  public PokemonDTO {
+    habitat = habitat == null ? null : habitat.intern();
+  }
 
-  private String name;
-
-  private String description;
-
-  private String habitat;
-
-  private boolean isLegendary;
+  public PokemonDTO withDescription(String description) {
+    return new PokemonDTO(id, name, description, habitat, legendary);
+  }
 }
@@ -0,0 +1,9 @@
+package com.homechallenge.pokedex.dto;
+
+import java.util.List;
+
+/**
+ * Species names suggested for a search query, best first: the exact match, names starting with the
+ * query, then names a few edits away from it.
+ */
+public record PokemonSearchResponse(String query, List<String> suggestions) {}
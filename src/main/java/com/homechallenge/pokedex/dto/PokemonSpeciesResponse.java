@@ -0,0 +1,17 @@
+package com.homechallenge.pokedex.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * The subset of a PokeAPI pokemon-species payload the service needs. Decoded by {@link
+ * PokemonSpeciesResponseDeserializer}, which streams over the payload and never materializes the
+ * fields it does not read.
+ */
+@JsonDeserialize(using = PokemonSpeciesResponseDeserializer.class)
+public record PokemonSpeciesResponse(
+    Long id, String name, boolean isLegendary, String habitat, String englishFlavorText) {
+
+  public boolean isEmpty() {
+    return id == null && name == null;
+  }
+}
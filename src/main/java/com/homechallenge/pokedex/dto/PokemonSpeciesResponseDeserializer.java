@@ -0,0 +1,111 @@
+package com.homechallenge.pokedex.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+/**
+ * Streaming decoder for pokemon-species payloads. Reads id, name, is_legendary, habitat.name and
+ * the first English flavor_text entry; every other field (names, genera, varieties, the remaining
+ * flavor text entries, ...) is skipped token by token without being materialized.
+ */
+public class PokemonSpeciesResponseDeserializer extends StdDeserializer<PokemonSpeciesResponse> {
+
+  private static final String ENGLISH = "en";
+
+  public PokemonSpeciesResponseDeserializer() {
+    super(PokemonSpeciesResponse.class);
+  }
+
+  @Override
+  public PokemonSpeciesResponse deserialize(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    }
+
+    Long id = null;
+    String name = null;
+    boolean isLegendary = false;
+    String habitat = null;
+    String englishFlavorText = null;
+
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String field = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (field) {
+        case "id" -> id = value == JsonToken.VALUE_NULL ? null : parser.getLongValue();
+        case "name" -> name = parser.getValueAsString();
+        case "is_legendary" -> isLegendary = parser.getValueAsBoolean();
+        case "habitat" -> habitat = readResourceName(parser);
+        case "flavor_text_entries" -> englishFlavorText = readFirstEnglishFlavorText(parser);
+        default -> parser.skipChildren();
+      }
+    }
+
+    return new PokemonSpeciesResponse(id, name, isLegendary, habitat, englishFlavorText);
+  }
+
+  /** Reads the "name" of a {"name": ..., "url": ...} resource reference, or null. */
+  private static String readResourceName(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    String name = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if ("name".equals(field)) {
+        name = parser.getValueAsString();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return name;
+  }
+
+  private static String readFirstEnglishFlavorText(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+
+    String englishFlavorText = null;
+    for (JsonToken entry = parser.nextToken();
+        entry != JsonToken.END_ARRAY;
+        entry = parser.nextToken()) {
+      if (englishFlavorText != null || entry != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      englishFlavorText = readEnglishFlavorText(parser);
+    }
+    return englishFlavorText;
+  }
+
+  /** Reads one flavor text entry, returning its text only if the entry is in English. */
+  private static String readEnglishFlavorText(JsonParser parser) throws IOException {
+    String flavorText = null;
+    String language = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "flavor_text" -> {
+          // PokeAPI lists language after the text, but skip the copy when we already know
+          if (language == null || ENGLISH.equalsIgnoreCase(language)) {
+            flavorText = parser.getValueAsString();
+          }
+        }
+        case "language" -> language = readResourceName(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return ENGLISH.equalsIgnoreCase(language) ? flavorText : null;
+  }
+}
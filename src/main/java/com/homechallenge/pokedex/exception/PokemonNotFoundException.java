@@ -1,5 +1,9 @@
 package com.homechallenge.pokedex.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
 public class PokemonNotFoundException extends RuntimeException {
 
   public PokemonNotFoundException(String pokemonName) {
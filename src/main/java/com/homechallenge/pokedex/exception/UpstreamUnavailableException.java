@@ -0,0 +1,16 @@
+package com.homechallenge.pokedex.exception;
+
+/** A call to an upstream was not attempted because its circuit is open or its limit reached. */
+public class UpstreamUnavailableException extends RuntimeException {
+
+  private final String reason;
+
+  public UpstreamUnavailableException(String upstream, String reason) {
+    super("Not calling " + upstream + ": " + reason);
+    this.reason = reason;
+  }
+
+  public String getReason() {
+    return reason;
+  }
+}
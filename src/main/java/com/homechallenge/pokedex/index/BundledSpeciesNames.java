@@ -0,0 +1,49 @@
+package com.homechallenge.pokedex.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The PokeAPI species identifiers shipped with the application, in national dex order. It seeds the
+ * species name filter and the name search, and has to be extended when PokeAPI adds species.
+ */
+public final class BundledSpeciesNames {
+
+  static final String RESOURCE = "species-names.txt";
+
+  private BundledSpeciesNames() {}
+
+  /**
+   * @return the bundled names, in dex order
+   */
+  public static List<String> load() throws IOException {
+    try (InputStream in =
+        BundledSpeciesNames.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+      if (in == null) {
+        throw new IOException("Missing species name list " + RESOURCE);
+      }
+      return read(in);
+    }
+  }
+
+  /**
+   * @return the names of a list with one name per line, {@code #} starting a comment
+   */
+  static List<String> read(InputStream in) throws IOException {
+    List<String> names = new ArrayList<>();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String name = line.strip();
+      if (!name.isEmpty() && !name.startsWith("#")) {
+        names.add(name);
+      }
+    }
+    return names;
+  }
+}
@@ -0,0 +1,90 @@
+package com.homechallenge.pokedex.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader for the PokeAPI CSV export. Quoted fields may contain commas, doubled
+ * quotes and line breaks; flavor texts rely on all three.
+ */
+class CsvReader implements Closeable {
+
+  private final Reader reader;
+  private int pending = -2;
+
+  CsvReader(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * @return the fields of the next row, or null at the end of the input
+   */
+  List<String> next() throws IOException {
+    int c = read();
+    if (c == -1) {
+      return null;
+    }
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == -1) {
+          throw new IOException("Unterminated quoted field");
+        }
+        if (c == '"') {
+          int next = read();
+          if (next == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            c = next;
+            continue;
+          }
+        } else {
+          field.append((char) c);
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else if (c == '\n' || c == -1) {
+        break;
+      } else if (c == '\r') {
+        int next = read();
+        if (next != '\n') {
+          unread(next);
+        }
+        break;
+      } else {
+        field.append((char) c);
+      }
+      c = read();
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  private int read() throws IOException {
+    if (pending != -2) {
+      int c = pending;
+      pending = -2;
+      return c;
+    }
+    return reader.read();
+  }
+
+  private void unread(int c) {
+    pending = c;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+}
@@ -0,0 +1,179 @@
+package com.homechallenge.pokedex.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds a {@link SpeciesIndex} from a PokeAPI data dump on local disk. Two layouts are accepted:
+ *
+ * <ul>
+ *   <li>the CSV export ({@code data/v2/csv} of the PokeAPI repository), read from {@code
+ *       pokemon_species.csv}, {@code pokemon_species_flavor_text.csv} and {@code
+ *       pokemon_habitats.csv}
+ *   <li>the JSON export ({@code data/api/v2} of api-data), one {@code
+ *       pokemon-species/<id>/index.json} per species, decoded like a live response
+ * </ul>
+ */
+@Slf4j
+public final class SpeciesDumpLoader {
+
+  static final String SPECIES_CSV = "pokemon_species.csv";
+  static final String FLAVOR_TEXT_CSV = "pokemon_species_flavor_text.csv";
+  static final String HABITATS_CSV = "pokemon_habitats.csv";
+  static final String SPECIES_JSON_DIRECTORY = "pokemon-species";
+
+  // language_id of English in languages.csv
+  private static final String ENGLISH_LANGUAGE_ID = "9";
+
+  private final ObjectMapper objectMapper;
+
+  public SpeciesDumpLoader(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public SpeciesIndex load(Path dump) throws IOException {
+    long start = System.nanoTime();
+    SpeciesIndex index;
+    if (Files.isRegularFile(dump.resolve(SPECIES_CSV))) {
+      index = loadCsv(dump);
+    } else if (Files.isDirectory(dump.resolve(SPECIES_JSON_DIRECTORY))) {
+      index = loadJson(dump.resolve(SPECIES_JSON_DIRECTORY));
+    } else {
+      throw new IOException(
+          "No "
+              + SPECIES_CSV
+              + " or "
+              + SPECIES_JSON_DIRECTORY
+              + "/ directory in species dump "
+              + dump);
+    }
+    log.info(
+        "Indexed {} species from {} in {} ms, ~{} KB in memory",
+        index.size(),
+        dump,
+        (System.nanoTime() - start) / 1_000_000,
+        index.estimatedBytes() / 1024);
+    return index;
+  }
+
+  private SpeciesIndex loadCsv(Path dump) throws IOException {
+    Map<String, String> habitats = new HashMap<>();
+    Path habitatsCsv = dump.resolve(HABITATS_CSV);
+    if (Files.isRegularFile(habitatsCsv)) {
+      readCsv(habitatsCsv, row -> habitats.put(row.get("id"), row.get("identifier")));
+    }
+
+    // the live mapping takes the first English entry, which PokeAPI lists by version
+    Map<String, FlavorText> flavorTexts = new HashMap<>();
+    Path flavorTextCsv = dump.resolve(FLAVOR_TEXT_CSV);
+    if (Files.isRegularFile(flavorTextCsv)) {
+      readCsv(
+          flavorTextCsv,
+          row -> {
+            if (ENGLISH_LANGUAGE_ID.equals(row.get("language_id"))) {
+              FlavorText candidate =
+                  new FlavorText(Integer.parseInt(row.get("version_id")), row.get("flavor_text"));
+              flavorTexts.merge(
+                  row.get("species_id"),
+                  candidate,
+                  (current, other) -> other.version() < current.version() ? other : current);
+            }
+          });
+    }
+
+    SpeciesIndex.Builder builder = new SpeciesIndex.Builder();
+    readCsv(
+        dump.resolve(SPECIES_CSV),
+        row -> {
+          String id = row.get("id");
+          FlavorText flavorText = flavorTexts.get(id);
+          builder.add(
+              Long.parseLong(id),
+              row.get("identifier"),
+              habitats.get(row.get("habitat_id")),
+              "1".equals(row.get("is_legendary")),
+              flavorText == null ? null : flavorText.text());
+        });
+    return builder.build();
+  }
+
+  private SpeciesIndex loadJson(Path speciesDirectory) throws IOException {
+    SpeciesIndex.Builder builder = new SpeciesIndex.Builder();
+    try (Stream<Path> entries = Files.list(speciesDirectory)) {
+      for (Path entry : (Iterable<Path>) entries::iterator) {
+        Path document = entry.resolve("index.json");
+        if (!Files.isRegularFile(document)) {
+          continue;
+        }
+        PokemonSpeciesResponse species;
+        try (InputStream in = Files.newInputStream(document)) {
+          species = objectMapper.readValue(in, PokemonSpeciesResponse.class);
+        }
+        if (species.isEmpty() || species.id() == null || species.name() == null) {
+          log.warn("Skipping species document without id and name: {}", document);
+          continue;
+        }
+        builder.add(
+            species.id(),
+            species.name(),
+            species.habitat(),
+            species.isLegendary(),
+            species.englishFlavorText());
+      }
+    }
+    return builder.build();
+  }
+
+  private static void readCsv(Path file, RowHandler handler) throws IOException {
+    try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+      List<String> header = reader.next();
+      if (header == null) {
+        return;
+      }
+      Map<String, Integer> columns = new HashMap<>();
+      for (int i = 0; i < header.size(); i++) {
+        columns.put(header.get(i).strip(), i);
+      }
+
+      List<String> fields;
+      while ((fields = reader.next()) != null) {
+        if (fields.size() == 1 && fields.get(0).isEmpty()) {
+          continue;
+        }
+        List<String> row = fields;
+        handler.handle(
+            column -> {
+              Integer position = columns.get(column);
+              if (position == null || position >= row.size() || row.get(position).isEmpty()) {
+                return null;
+              }
+              return row.get(position);
+            });
+      }
+    } catch (RuntimeException e) {
+      throw new IOException("Malformed species dump file " + file + ": " + e.getMessage(), e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Row {
+    String get(String column);
+  }
+
+  @FunctionalInterface
+  private interface RowHandler {
+    void handle(Row row);
+  }
+
+  private record FlavorText(int version, String text) {}
+}
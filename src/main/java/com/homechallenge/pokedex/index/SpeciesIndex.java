@@ -0,0 +1,220 @@
+package com.homechallenge.pokedex.index;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.cleanFlavorText;
+
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, array-backed index of every species in a PokeAPI data dump, holding the fields {@link
+ * PokemonDTO} exposes. Lookups by id and by name are binary searches over sorted arrays; habitats
+ * are stored once and referenced by a byte, and the legendary flag is packed into a bit set.
+ */
+public final class SpeciesIndex {
+
+  public static final SpeciesIndex EMPTY = new Builder().build();
+
+  private static final int OBJECT_HEADER = 16;
+  private static final int ARRAY_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int STRING_SHALLOW = 24;
+
+  // all arrays are sorted by id
+  private final long[] ids;
+  private final String[] names;
+  private final String[] descriptions;
+  private final byte[] habitatIndexes;
+  private final String[] habitats;
+  private final long[] legendary;
+  // positions ordered by name
+  private final int[] byName;
+
+  private SpeciesIndex(
+      long[] ids,
+      String[] names,
+      String[] descriptions,
+      byte[] habitatIndexes,
+      String[] habitats,
+      long[] legendary) {
+    this.ids = ids;
+    this.names = names;
+    this.descriptions = descriptions;
+    this.habitatIndexes = habitatIndexes;
+    this.habitats = habitats;
+    this.legendary = legendary;
+    this.byName =
+        IntStream.range(0, names.length)
+            .boxed()
+            .sorted(Comparator.comparing(position -> names[position]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+  }
+
+  public int size() {
+    return ids.length;
+  }
+
+  public boolean isEmpty() {
+    return ids.length == 0;
+  }
+
+  /**
+   * @return a new DTO for the species with this name or numeric id, or null if it is not indexed
+   */
+  public PokemonDTO find(String nameOrId) {
+    if (nameOrId == null || ids.length == 0) {
+      return null;
+    }
+    String key = nameOrId.trim().toLowerCase(Locale.ROOT);
+    int position = isNumeric(key) ? positionOfId(key) : positionOfName(key);
+    return position < 0 ? null : toDTO(position);
+  }
+
+  /**
+   * @return the indexed species names, in id order
+   */
+  public List<String> names() {
+    return List.of(names);
+  }
+
+  /**
+   * Approximate retained size of the index in bytes, assuming compressed references and compact
+   * (Latin-1) strings.
+   */
+  public long estimatedBytes() {
+    long bytes = OBJECT_HEADER + 7L * REFERENCE;
+    bytes += ARRAY_HEADER + 8L * ids.length;
+    bytes += ARRAY_HEADER + (long) REFERENCE * names.length + stringsBytes(names);
+    bytes += ARRAY_HEADER + (long) REFERENCE * descriptions.length + stringsBytes(descriptions);
+    bytes += ARRAY_HEADER + habitatIndexes.length;
+    bytes += ARRAY_HEADER + (long) REFERENCE * habitats.length + stringsBytes(habitats);
+    bytes += ARRAY_HEADER + 8L * legendary.length;
+    bytes += ARRAY_HEADER + 4L * byName.length;
+    return bytes;
+  }
+
+  private PokemonDTO toDTO(int position) {
+    int habitat = habitatIndexes[position];
+    return new PokemonDTO(
+        ids[position],
+        names[position],
+        descriptions[position],
+        habitat < 0 ? null : habitats[habitat],
+        (legendary[position >>> 6] & (1L << position)) != 0);
+  }
+
+  private int positionOfId(String key) {
+    try {
+      return Math.max(Arrays.binarySearch(ids, Long.parseLong(key)), -1);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private int positionOfName(String key) {
+    int low = 0;
+    int high = byName.length - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int comparison = names[byName[middle]].compareTo(key);
+      if (comparison < 0) {
+        low = middle + 1;
+      } else if (comparison > 0) {
+        high = middle - 1;
+      } else {
+        return byName[middle];
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isNumeric(String key) {
+    if (key.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < key.length(); i++) {
+      if (!Character.isDigit(key.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long stringsBytes(String[] strings) {
+    long bytes = 0;
+    for (String string : strings) {
+      if (string != null) {
+        bytes += STRING_SHALLOW + ARRAY_HEADER + string.length();
+      }
+    }
+    return bytes;
+  }
+
+  /** Collects species in any order; the last entry added for an id wins. */
+  public static final class Builder {
+    private final Map<Long, Species> species = new HashMap<>();
+
+    /**
+     * Adds one species, deriving the description exactly as the live mapping does: the first
+     * English flavor text with its line and page breaks flattened, or empty if there is none.
+     */
+    public Builder add(
+        long id, String name, String habitat, boolean isLegendary, String englishFlavorText) {
+      String description = englishFlavorText == null ? "" : cleanFlavorText(englishFlavorText);
+      species.put(
+          id, new Species(id, name.toLowerCase(Locale.ROOT), description, habitat, isLegendary));
+      return this;
+    }
+
+    public SpeciesIndex build() {
+      List<Species> sorted = new ArrayList<>(species.values());
+      sorted.sort(Comparator.comparingLong(Species::id));
+
+      int size = sorted.size();
+      long[] ids = new long[size];
+      String[] names = new String[size];
+      String[] descriptions = new String[size];
+      byte[] habitatIndexes = new byte[size];
+      long[] legendary = new long[(size + 63) >>> 6];
+      List<String> habitats = new ArrayList<>();
+      Map<String, Integer> habitatPositions = new HashMap<>();
+
+      for (int i = 0; i < size; i++) {
+        Species entry = sorted.get(i);
+        ids[i] = entry.id();
+        names[i] = entry.name();
+        descriptions[i] = entry.description();
+        if (entry.habitat() == null) {
+          habitatIndexes[i] = -1;
+        } else {
+          int habitat =
+              habitatPositions.computeIfAbsent(
+                  entry.habitat(),
+                  name -> {
+                    habitats.add(name);
+                    return habitats.size() - 1;
+                  });
+          if (habitat > Byte.MAX_VALUE) {
+            throw new IllegalStateException("Too many distinct habitats: " + habitats.size());
+          }
+          habitatIndexes[i] = (byte) habitat;
+        }
+        if (entry.isLegendary()) {
+          legendary[i >>> 6] |= 1L << i;
+        }
+      }
+      return new SpeciesIndex(
+          ids, names, descriptions, habitatIndexes, habitats.toArray(String[]::new), legendary);
+    }
+  }
+
+  private record Species(
+      long id, String name, String description, String habitat, boolean isLegendary) {}
+}
@@ -0,0 +1,178 @@
+package com.homechallenge.pokedex.index;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bloom filter over species names, answering whether a name might exist without calling PokeAPI. A
+ * "no" is certain; a "maybe" is wrong with about the configured false-positive rate. Names are
+ * compared trimmed and case-insensitively, and numeric ids are always let through.
+ *
+ * <p>Seeded from the {@link BundledSpeciesNames}; names PokeAPI resolves are added as they are
+ * found. A rejected name never reaches PokeAPI, so a species released after the list was bundled
+ * stays rejected until the list is updated or the filter disabled. Adding is lock-free.
+ */
+public final class SpeciesNameFilter {
+
+  /** Lets every name through. */
+  public static final SpeciesNameFilter DISABLED = new SpeciesNameFilter(64, 1);
+
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+  private final AtomicLong setBits = new AtomicLong();
+  private final LongAdder rejections = new LongAdder();
+
+  private SpeciesNameFilter(long bitCount, int hashCount) {
+    long words = Math.max(1, (bitCount + 63) / 64);
+    if (words > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Name filter of " + bitCount + " bits is too large");
+    }
+    this.bits = new AtomicLongArray((int) words);
+    this.bitCount = words * 64;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * Sizes the filter for {@code expectedNames} at {@code falsePositiveRate}.
+   *
+   * @param memoryBytes the size of the bit array, overriding the one derived from the rate when
+   *     positive; the number of hashes is then chosen for that size
+   */
+  public static SpeciesNameFilter create(
+      long expectedNames, double falsePositiveRate, long memoryBytes) {
+    if (expectedNames <= 0) {
+      throw new IllegalArgumentException("Expected names must be positive: " + expectedNames);
+    }
+    if (memoryBytes <= 0 && (falsePositiveRate <= 0 || falsePositiveRate >= 1)) {
+      throw new IllegalArgumentException(
+          "False-positive rate must be between 0 and 1: " + falsePositiveRate);
+    }
+    long bitCount =
+        memoryBytes > 0
+            ? memoryBytes * 8
+            : (long) Math.ceil(-expectedNames * Math.log(falsePositiveRate) / (LN2 * LN2));
+    int hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedNames * LN2));
+    return new SpeciesNameFilter(bitCount, hashCount);
+  }
+
+  public boolean enabled() {
+    return this != DISABLED;
+  }
+
+  /**
+   * @return false only if {@code name} was never added; numeric ids are always accepted
+   */
+  public boolean mightExist(String name) {
+    if (!enabled() || name == null || isNumeric(name)) {
+      return true;
+    }
+    long hash = hash(name);
+    long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(hash + i * step, bitCount);
+      if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        rejections.increment();
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void add(String name) {
+    if (!enabled() || name == null || isNumeric(name)) {
+      return;
+    }
+    long hash = hash(name);
+    long step = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Long.remainderUnsigned(hash + i * step, bitCount);
+      long mask = 1L << bit;
+      long previous = bits.getAndUpdate((int) (bit >>> 6), word -> word | mask);
+      if ((previous & mask) == 0) {
+        setBits.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * @return the probability that a name never added is let through, at the current fill
+   */
+  public double expectedFalsePositiveRate() {
+    if (!enabled()) {
+      return 1;
+    }
+    return Math.pow((double) setBits.get() / bitCount, hashCount);
+  }
+
+  /**
+   * @return the number of distinct names added, estimated from the bits set
+   */
+  public double approximateNames() {
+    if (!enabled()) {
+      return 0;
+    }
+    double fill = (double) setBits.get() / bitCount;
+    return fill >= 1
+        ? Double.POSITIVE_INFINITY
+        : -bitCount / (double) hashCount * Math.log1p(-fill);
+  }
+
+  public long byteSize() {
+    return enabled() ? bitCount / 8 : 0;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  /** Lookups answered "does not exist". */
+  public long rejections() {
+    return rejections.sum();
+  }
+
+  /** 64-bit FNV-1a over the trimmed, lower-cased characters, finished with a 64-bit mix. */
+  private static long hash(String name) {
+    int start = 0;
+    int end = name.length();
+    while (start < end && Character.isWhitespace(name.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(name.charAt(end - 1))) {
+      end--;
+    }
+    long hash = 0xcbf29ce484222325L;
+    for (int i = start; i < end; i++) {
+      char c = Character.toLowerCase(name.charAt(i));
+      hash = (hash ^ (c & 0xff)) * 0x100000001b3L;
+      hash = (hash ^ (c >>> 8)) * 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  /** The MurmurHash3 finalizer. */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static boolean isNumeric(String name) {
+    String trimmed = name.strip();
+    if (trimmed.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < trimmed.length(); i++) {
+      if (!Character.isDigit(trimmed.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,327 @@
+package com.homechallenge.pokedex.index;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Immutable trie over species names, answering prefix completions and names within a few edits of a
+ * query (optimal string alignment distance: insertions, deletions, substitutions and adjacent
+ * transpositions). Every name has a rank, its position in the list the trie was built from, and
+ * suggestions are ordered by it.
+ *
+ * <p>Nodes are laid out breadth first in flat arrays, the children of a node contiguous and sorted
+ * by character; a lookup walks them by binary search and the edit-distance search carries one row
+ * of the distance matrix per depth, pruning subtrees whose row is already over the limit.
+ */
+public final class SpeciesNameTrie {
+
+  public static final SpeciesNameTrie EMPTY = build(List.of());
+
+  private static final int OBJECT_HEADER = 16;
+  private static final int ARRAY_HEADER = 16;
+  private static final int REFERENCE = 4;
+  private static final int STRING_SHALLOW = 24;
+
+  // by node, the root being node 0
+  private final char[] labels;
+  private final int[] firstChild;
+  private final int[] childCount;
+  private final int[] rankAt;
+  // by rank
+  private final String[] names;
+  private final int maxLength;
+
+  private SpeciesNameTrie(
+      char[] labels,
+      int[] firstChild,
+      int[] childCount,
+      int[] rankAt,
+      String[] names,
+      int maxLength) {
+    this.labels = labels;
+    this.firstChild = firstChild;
+    this.childCount = childCount;
+    this.rankAt = rankAt;
+    this.names = names;
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * @param names species names, best ranked first; they are {@link #normalize normalized} and the
+   *     first occurrence of a name keeps its rank
+   */
+  public static SpeciesNameTrie build(Collection<String> names) {
+    BuildNode root = new BuildNode((char) 0);
+    List<String> ranked = new ArrayList<>(names.size());
+    int maxLength = 0;
+    for (String name : names) {
+      String key = normalize(name);
+      if (key.isEmpty()) {
+        continue;
+      }
+      BuildNode node = root;
+      for (int i = 0; i < key.length(); i++) {
+        node = node.children.computeIfAbsent(key.charAt(i), BuildNode::new);
+      }
+      if (node.rank < 0) {
+        node.rank = ranked.size();
+        ranked.add(key);
+        maxLength = Math.max(maxLength, key.length());
+      }
+    }
+
+    List<BuildNode> order = new ArrayList<>();
+    Deque<BuildNode> queue = new ArrayDeque<>();
+    queue.add(root);
+    while (!queue.isEmpty()) {
+      BuildNode node = queue.poll();
+      order.add(node);
+      queue.addAll(node.children.values());
+    }
+
+    int size = order.size();
+    char[] labels = new char[size];
+    int[] firstChild = new int[size];
+    int[] childCount = new int[size];
+    int[] rankAt = new int[size];
+    int next = 1;
+    for (int i = 0; i < size; i++) {
+      BuildNode node = order.get(i);
+      labels[i] = node.label;
+      firstChild[i] = next;
+      childCount[i] = node.children.size();
+      rankAt[i] = node.rank;
+      next += node.children.size();
+    }
+    return new SpeciesNameTrie(
+        labels, firstChild, childCount, rankAt, ranked.toArray(String[]::new), maxLength);
+  }
+
+  /**
+   * Folds a name or query into PokeAPI identifier form: lower case, accents dropped, runs of
+   * spaces, underscores and hyphens as one hyphen, other punctuation removed ("Mr. Mime" is {@code
+   * mr-mime}, "Farfetch'd" is {@code farfetchd}, "Flabébé" is {@code flabebe}).
+   */
+  public static String normalize(String name) {
+    if (name == null) {
+      return "";
+    }
+    String text = name;
+    for (int i = 0; i < text.length(); i++) {
+      if (text.charAt(i) > 0x7f) {
+        text = Normalizer.normalize(text, Normalizer.Form.NFD);
+        break;
+      }
+    }
+    StringBuilder key = new StringBuilder(text.length());
+    boolean separator = false;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '-' || c == '_' || Character.isWhitespace(c)) {
+        separator = key.length() > 0;
+      } else if (c < 0x80 && Character.isLetterOrDigit(c)) {
+        if (separator) {
+          key.append('-');
+          separator = false;
+        }
+        key.append(Character.toLowerCase(c));
+      }
+    }
+    return key.toString();
+  }
+
+  public int size() {
+    return names.length;
+  }
+
+  public int nodes() {
+    return labels.length;
+  }
+
+  /**
+   * @return the names starting with {@code key}, the exact match first and the rest by rank, at
+   *     most {@code limit}
+   */
+  public List<String> complete(String key, int limit) {
+    List<String> results = new ArrayList<>(Math.min(limit, 16));
+    int node = find(key);
+    if (node < 0 || limit <= 0) {
+      return results;
+    }
+    if (rankAt[node] >= 0) {
+      results.add(names[rankAt[node]]);
+    }
+    IntBuffer ranks = new IntBuffer();
+    collectRanks(node, ranks);
+    ranks.sort();
+    for (int i = 0; i < ranks.size && results.size() < limit; i++) {
+      results.add(names[ranks.values[i]]);
+    }
+    return results;
+  }
+
+  /**
+   * @return the names within {@code maxEdits} of {@code key} but not equal to it, closest first
+   *     then by rank, at most {@code limit}
+   */
+  public List<String> similar(String key, int maxEdits, int limit) {
+    List<String> results = new ArrayList<>(Math.min(limit, 16));
+    int length = key.length();
+    // no name is long enough to be within maxEdits of a longer key
+    if (length == 0
+        || length > maxLength + maxEdits
+        || maxEdits <= 0
+        || limit <= 0
+        || names.length == 0) {
+      return results;
+    }
+    int[][] rows = new int[maxLength + 1][length + 1];
+    for (int i = 0; i <= length; i++) {
+      rows[0][i] = i;
+    }
+    LongBuffer matches = new LongBuffer();
+    descend(0, 0, key, maxEdits, rows, new char[maxLength + 1], matches);
+    matches.sort();
+    for (int i = 0; i < matches.size && results.size() < limit; i++) {
+      results.add(names[(int) matches.values[i]]);
+    }
+    return results;
+  }
+
+  private void descend(
+      int node,
+      int depth,
+      String key,
+      int maxEdits,
+      int[][] rows,
+      char[] path,
+      LongBuffer matches) {
+    int length = key.length();
+    int[] previous = rows[depth];
+    int[] row = rows[depth + 1];
+    int end = firstChild[node] + childCount[node];
+    for (int child = firstChild[node]; child < end; child++) {
+      char c = labels[child];
+      path[depth + 1] = c;
+      row[0] = depth + 1;
+      int best = row[0];
+      for (int i = 1; i <= length; i++) {
+        int cost = key.charAt(i - 1) == c ? 0 : 1;
+        int distance = Math.min(Math.min(previous[i] + 1, row[i - 1] + 1), previous[i - 1] + cost);
+        if (i > 1 && depth > 0 && key.charAt(i - 1) == path[depth] && key.charAt(i - 2) == c) {
+          distance = Math.min(distance, rows[depth - 1][i - 2] + 1);
+        }
+        row[i] = distance;
+        best = Math.min(best, distance);
+      }
+      int distance = row[length];
+      if (rankAt[child] >= 0 && distance > 0 && distance <= maxEdits) {
+        matches.add((long) distance << 32 | rankAt[child]);
+      }
+      if (best <= maxEdits && depth + 1 < maxLength) {
+        descend(child, depth + 1, key, maxEdits, rows, path, matches);
+      }
+    }
+  }
+
+  /**
+   * @return the node {@code key} leads to, or -1
+   */
+  private int find(String key) {
+    int node = 0;
+    for (int i = 0; i < key.length(); i++) {
+      int low = firstChild[node];
+      int high = low + childCount[node] - 1;
+      char c = key.charAt(i);
+      node = -1;
+      while (low <= high) {
+        int middle = (low + high) >>> 1;
+        if (labels[middle] < c) {
+          low = middle + 1;
+        } else if (labels[middle] > c) {
+          high = middle - 1;
+        } else {
+          node = middle;
+          break;
+        }
+      }
+      if (node < 0) {
+        return -1;
+      }
+    }
+    return node;
+  }
+
+  private void collectRanks(int node, IntBuffer ranks) {
+    int end = firstChild[node] + childCount[node];
+    for (int child = firstChild[node]; child < end; child++) {
+      if (rankAt[child] >= 0) {
+        ranks.add(rankAt[child]);
+      }
+      collectRanks(child, ranks);
+    }
+  }
+
+  /**
+   * Approximate retained size of the trie in bytes, assuming compressed references and compact
+   * (Latin-1) strings.
+   */
+  public long estimatedBytes() {
+    long bytes = OBJECT_HEADER + 6L * REFERENCE;
+    bytes += ARRAY_HEADER + 2L * labels.length;
+    bytes += 3L * (ARRAY_HEADER + 4L * labels.length);
+    bytes += ARRAY_HEADER + (long) REFERENCE * names.length;
+    for (String name : names) {
+      bytes += STRING_SHALLOW + ARRAY_HEADER + name.length();
+    }
+    return bytes;
+  }
+
+  private static final class BuildNode {
+    private final char label;
+    private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+    private int rank = -1;
+
+    BuildNode(char label) {
+      this.label = label;
+    }
+  }
+
+  private static final class IntBuffer {
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    void sort() {
+      Arrays.sort(values, 0, size);
+    }
+  }
+
+  private static final class LongBuffer {
+    private long[] values = new long[16];
+    private int size;
+
+    void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    void sort() {
+      Arrays.sort(values, 0, size);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.homechallenge.pokedex.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Times how long a delegate converter takes to decode one type. The delegate parses straight off
+ * the wire; the time spent blocked reading the body is subtracted, so the timer measures parsing
+ * alone and network time stays with the upstream call timer.
+ */
+public class DecodeTimingHttpMessageConverter<T> implements HttpMessageConverter<T> {
+
+  private final HttpMessageConverter<T> delegate;
+  private final Class<?> timedType;
+  private final Timer timer;
+
+  public DecodeTimingHttpMessageConverter(
+      HttpMessageConverter<T> delegate, Class<?> timedType, Timer timer) {
+    this.delegate = delegate;
+    this.timedType = timedType;
+    this.timer = timer;
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return timedType.equals(clazz) && delegate.canRead(clazz, mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  public List<MediaType> getSupportedMediaTypes() {
+    return delegate.getSupportedMediaTypes();
+  }
+
+  @Override
+  public T read(Class<? extends T> clazz, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    WireTimingInputStream body = new WireTimingInputStream(inputMessage.getBody());
+    HttpHeaders headers = inputMessage.getHeaders();
+    HttpInputMessage timed =
+        new HttpInputMessage() {
+          @Override
+          public InputStream getBody() {
+            return body;
+          }
+
+          @Override
+          public HttpHeaders getHeaders() {
+            return headers;
+          }
+        };
+
+    long start = System.nanoTime();
+    try {
+      return delegate.read(clazz, timed);
+    } finally {
+      long parsing = System.nanoTime() - start - body.wireNanos;
+      timer.record(Math.max(0, parsing), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public void write(T t, MediaType contentType, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    delegate.write(t, contentType, outputMessage);
+  }
+
+  /** Adds up the time spent inside reads of the underlying stream. */
+  private static final class WireTimingInputStream extends FilterInputStream {
+
+    private long wireNanos;
+
+    WireTimingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      long start = System.nanoTime();
+      try {
+        return super.read();
+      } finally {
+        wireNanos += System.nanoTime() - start;
+      }
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      long start = System.nanoTime();
+      try {
+        return in.read(buffer, offset, length);
+      } finally {
+        wireNanos += System.nanoTime() - start;
+      }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long start = System.nanoTime();
+      try {
+        return super.skip(n);
+      } finally {
+        wireNanos += System.nanoTime() - start;
+      }
+    }
+  }
+}
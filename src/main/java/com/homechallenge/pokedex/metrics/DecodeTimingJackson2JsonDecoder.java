@@ -0,0 +1,43 @@
+package com.homechallenge.pokedex.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.util.MimeType;
+
+/**
+ * Jackson decoder that times decoding of one type. WebClient joins the whole body into a single
+ * buffer before calling {@link #decode(DataBuffer, ResolvableType, MimeType, Map)}, so the timer
+ * measures parsing alone.
+ */
+public class DecodeTimingJackson2JsonDecoder extends Jackson2JsonDecoder {
+
+  private final Class<?> timedType;
+  private final Timer timer;
+
+  public DecodeTimingJackson2JsonDecoder(Class<?> timedType, Timer timer) {
+    this.timedType = timedType;
+    this.timer = timer;
+  }
+
+  @Override
+  public Object decode(
+      DataBuffer dataBuffer,
+      ResolvableType targetType,
+      MimeType mimeType,
+      Map<String, Object> hints)
+      throws DecodingException {
+    if (!timedType.equals(targetType.toClass())) {
+      return super.decode(dataBuffer, targetType, mimeType, hints);
+    }
+    Timer.Sample sample = Timer.start();
+    try {
+      return super.decode(dataBuffer, targetType, mimeType, hints);
+    } finally {
+      sample.stop(timer);
+    }
+  }
+}
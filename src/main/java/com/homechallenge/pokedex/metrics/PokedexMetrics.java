@@ -0,0 +1,177 @@
+package com.homechallenge.pokedex.metrics;
+
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Meters for each stage of a lookup, so the latency budget can be split between the upstream calls,
+ * decoding and mapping. All timers publish histograms for server-side percentiles. Tagged meters
+ * are registered on first use and kept, so a lookup only reads a map.
+ *
+ * <ul>
+ *   <li>{@code pokedex.upstream.calls{upstream, outcome}}: PokeAPI and FunTranslations round trips
+ *   <li>{@code pokedex.species.decode}: JSON decoding of a species payload, network excluded
+ *   <li>{@code pokedex.species.mapping}: {@code mapToPokemonDTO}
+ *   <li>{@code pokedex.translations{type}}: translated lookups per translation type
+ *   <li>{@code pokedex.translation.fallbacks{type, reason}}: FunTranslations gave no translation,
+ *       the original description or a local translation served instead
+ *   <li>{@code pokedex.translation.local{type}}: translations computed in process
+ *   <li>{@code pokedex.pokemon.not.found}: lookups answered with a 404
+ * </ul>
+ */
+@Component
+public class PokedexMetrics {
+
+  public static final String POKEAPI = "pokeapi";
+  public static final String FUNTRANSLATIONS = "funtranslations";
+
+  public static final String FALLBACK_ERROR = "error";
+  public static final String FALLBACK_EMPTY_RESPONSE = "empty_response";
+  public static final String FALLBACK_CACHED_FAILURE = "cached_failure";
+
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_NOT_FOUND = "not_found";
+  private static final String OUTCOME_ERROR = "error";
+
+  private final MeterRegistry registry;
+  private final Timer decodeTimer;
+  private final Timer mappingTimer;
+  private final Counter notFound;
+  private final Map<String, Map<String, Timer>> upstreamTimers = new ConcurrentHashMap<>();
+  private final Map<String, Counter> translationCounters = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Counter>> fallbackCounters = new ConcurrentHashMap<>();
+  private final Map<String, Counter> localTranslationCounters = new ConcurrentHashMap<>();
+
+  public PokedexMetrics(MeterRegistry registry) {
+    this.registry = registry;
+    this.decodeTimer =
+        histogram(Timer.builder("pokedex.species.decode"))
+            .description("Decoding of a PokeAPI species payload")
+            .register(registry);
+    this.mappingTimer =
+        histogram(Timer.builder("pokedex.species.mapping"))
+            .description("Mapping of a decoded species to the API representation")
+            .register(registry);
+    this.notFound =
+        Counter.builder("pokedex.pokemon.not.found")
+            .description("Lookups for a species that does not exist")
+            .register(registry);
+  }
+
+  /** Times a blocking upstream call, tagging it by outcome. */
+  public <T> T recordUpstreamCall(String upstream, Supplier<T> call) {
+    Timer.Sample sample = Timer.start(registry);
+    String outcome = OUTCOME_ERROR;
+    try {
+      T result = call.get();
+      outcome = OUTCOME_SUCCESS;
+      return result;
+    } catch (PokemonNotFoundException e) {
+      outcome = OUTCOME_NOT_FOUND;
+      throw e;
+    } finally {
+      RequestTimings.recordUpstream(sample.stop(upstreamTimer(upstream, outcome)));
+    }
+  }
+
+  /** Times a non-blocking upstream call from subscription to its result or error. */
+  public <T> Mono<T> recordUpstreamCall(String upstream, Mono<T> call) {
+    return Mono.defer(
+        () -> {
+          Timer.Sample sample = Timer.start(registry);
+          return call.doOnSuccess(result -> sample.stop(upstreamTimer(upstream, OUTCOME_SUCCESS)))
+              .doOnError(
+                  e ->
+                      sample.stop(
+                          upstreamTimer(
+                              upstream,
+                              e instanceof PokemonNotFoundException
+                                  ? OUTCOME_NOT_FOUND
+                                  : OUTCOME_ERROR)));
+        });
+  }
+
+  public Timer decodeTimer() {
+    return decodeTimer;
+  }
+
+  public <T> T recordMapping(Supplier<T> mapping) {
+    return mappingTimer.record(mapping);
+  }
+
+  public void translationRequested(String translationType) {
+    meter(
+            translationCounters,
+            translationType,
+            type ->
+                Counter.builder("pokedex.translations")
+                    .description("Translated lookups by translation type")
+                    .tag("type", type)
+                    .register(registry))
+        .increment();
+  }
+
+  /** Counts a translated lookup that FunTranslations did not answer. */
+  public void translationFallback(String translationType, String reason) {
+    meter(
+            meter(fallbackCounters, translationType, type -> new ConcurrentHashMap<>()),
+            reason,
+            tag ->
+                Counter.builder("pokedex.translation.fallbacks")
+                    .description("Translated lookups not answered by FunTranslations")
+                    .tag("type", translationType)
+                    .tag("reason", tag)
+                    .register(registry))
+        .increment();
+  }
+
+  public void translatedLocally(String translationType) {
+    meter(
+            localTranslationCounters,
+            translationType,
+            type ->
+                Counter.builder("pokedex.translation.local")
+                    .description("Translations computed by the in-process translator")
+                    .tag("type", type)
+                    .register(registry))
+        .increment();
+  }
+
+  public void pokemonNotFound() {
+    notFound.increment();
+  }
+
+  private Timer upstreamTimer(String upstream, String outcome) {
+    return meter(
+        meter(upstreamTimers, upstream, name -> new ConcurrentHashMap<>()),
+        outcome,
+        tag ->
+            histogram(Timer.builder("pokedex.upstream.calls"))
+                .description("Round trips to an upstream API")
+                .tag("upstream", upstream)
+                .tag("outcome", tag)
+                .register(registry));
+  }
+
+  /** Registers the meter for {@code key} on first use. */
+  private static <V> V meter(Map<String, V> meters, String key, Function<String, V> register) {
+    V meter = meters.get(key);
+    return meter != null ? meter : meters.computeIfAbsent(key, register);
+  }
+
+  private static Timer.Builder histogram(Timer.Builder builder) {
+    return builder
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(10_000))
+        .maximumExpectedValue(Duration.ofSeconds(10));
+  }
+}
@@ -0,0 +1,75 @@
+package com.homechallenge.pokedex.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Writes one {@code key=value} line per request to the {@code pokedex.requests} logger, replacing
+ * the free-text lines the controller and service used to log at INFO. Only a {@code sample-rate}
+ * fraction of requests is logged; server errors are always logged.
+ *
+ * <pre>
+ * method=GET path=/pokemon/translated/mewtwo status=200 duration_us=182345 upstream_calls=2 upstream_us=180911
+ * </pre>
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "pokedex.request-log.enabled", havingValue = "true")
+public class RequestLogFilter extends OncePerRequestFilter {
+
+  private static final Logger requestLog = LoggerFactory.getLogger("pokedex.requests");
+
+  private final double sampleRate;
+
+  public RequestLogFilter(@Value("${pokedex.request-log.sample-rate}") double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!requestLog.isInfoEnabled()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    long start = System.nanoTime();
+    RequestTimings timings = RequestTimings.start();
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, response);
+      failed = false;
+    } finally {
+      RequestTimings.end();
+      // an exception escaping the chain is turned into a 500 by the container, after this filter
+      int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+      if (status >= 500 || sampled()) {
+        requestLog.info(
+            "method={} path={} status={} duration_us={} upstream_calls={} upstream_us={}",
+            request.getMethod(),
+            request.getRequestURI(),
+            status,
+            TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start),
+            timings.upstreamCalls(),
+            TimeUnit.NANOSECONDS.toMicros(timings.upstreamNanos()));
+      }
+    }
+  }
+
+  private boolean sampled() {
+    return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+}
@@ -0,0 +1,107 @@
+package com.homechallenge.pokedex.metrics;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts successful lookups per species, so the most requested ones can be warmed up after a
+ * restart. Only names of species that were found are counted, which bounds the map by the number of
+ * species.
+ *
+ * <p>The counts are persisted as one {@code name<TAB>count} line per species.
+ */
+public class RequestStatistics {
+
+  /** Counts nothing and persists nothing. */
+  public static final RequestStatistics NONE = new RequestStatistics(null);
+
+  private final Path path;
+  private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+  public RequestStatistics(Path path) {
+    this.path = path;
+  }
+
+  public void record(String species) {
+    if (path != null && species != null) {
+      counts.computeIfAbsent(species.toLowerCase(Locale.ROOT), name -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * @return up to {@code limit} species names, most requested first
+   */
+  public List<String> top(int limit) {
+    return counts.entrySet().stream()
+        .sorted(
+            Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum())
+                .reversed()
+                .thenComparing(Map.Entry::getKey))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  /**
+   * Adds the persisted counts to the current ones.
+   *
+   * @return the number of species read
+   */
+  public int load() throws IOException {
+    if (path == null) {
+      return 0;
+    }
+    List<String> lines;
+    try {
+      lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+    int loaded = 0;
+    for (String line : lines) {
+      int tab = line.indexOf('\t');
+      if (tab <= 0) {
+        continue;
+      }
+      try {
+        long count = Long.parseLong(line.substring(tab + 1).trim());
+        counts.computeIfAbsent(line.substring(0, tab), name -> new LongAdder()).add(count);
+        loaded++;
+      } catch (NumberFormatException e) {
+        // skip the line, keep the rest
+      }
+    }
+    return loaded;
+  }
+
+  /** Writes the counts to a temporary file and moves it over the previous one. */
+  public void save() throws IOException {
+    if (path == null) {
+      return;
+    }
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+    try (BufferedWriter out = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, LongAdder> entry : counts.entrySet()) {
+        out.write(entry.getKey());
+        out.write('\t');
+        out.write(Long.toString(entry.getValue().sum()));
+        out.newLine();
+      }
+    }
+    Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
@@ -0,0 +1,43 @@
+package com.homechallenge.pokedex.metrics;
+
+/**
+ * Upstream time spent on behalf of the request being served on the current thread, collected for
+ * the one-line request log. Calls made on other threads (batch fan-out, background refreshes) are
+ * not attributed.
+ */
+final class RequestTimings {
+
+  private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+  private int upstreamCalls;
+  private long upstreamNanos;
+
+  private RequestTimings() {}
+
+  static RequestTimings start() {
+    RequestTimings timings = new RequestTimings();
+    CURRENT.set(timings);
+    return timings;
+  }
+
+  static void end() {
+    CURRENT.remove();
+  }
+
+  /** Adds an upstream call to the current request, if one is being timed. */
+  static void recordUpstream(long nanos) {
+    RequestTimings timings = CURRENT.get();
+    if (timings != null) {
+      timings.upstreamCalls++;
+      timings.upstreamNanos += nanos;
+    }
+  }
+
+  int upstreamCalls() {
+    return upstreamCalls;
+  }
+
+  long upstreamNanos() {
+    return upstreamNanos;
+  }
+}
@@ -0,0 +1,89 @@
+package com.homechallenge.pokedex.resilience;
+
+import java.time.Duration;
+
+/**
+ * Adaptive cap on concurrent calls to one upstream (additive increase, multiplicative decrease).
+ * Every call that comes back quickly raises the limit by {@code 1/limit}, so by about one per round
+ * of calls; a call that is rate-limited, fails or takes longer than {@code latencyThreshold}
+ * multiplies it by {@code backoffRatio}. Calls beyond the current limit are rejected rather than
+ * queued.
+ */
+public class AimdLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+
+  private double limit;
+  private int inFlight;
+  private long rejectedCount;
+
+  public AimdLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      Duration latencyThreshold,
+      double backoffRatio) {
+    if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+      throw new IllegalArgumentException(
+          "Limits must satisfy 1 <= min-limit <= initial-limit <= max-limit");
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+    }
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.backoffRatio = backoffRatio;
+  }
+
+  public synchronized boolean tryAcquire() {
+    if (inFlight >= (int) limit) {
+      rejectedCount++;
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /** Releases a permit after a completed call that took {@code latencyNanos}. */
+  public synchronized void onSuccess(long latencyNanos) {
+    inFlight--;
+    if (latencyNanos > latencyThresholdNanos) {
+      decrease();
+    } else {
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+
+  /** Releases a permit after the upstream pushed back: rate limit, server error or timeout. */
+  public synchronized void onDropped() {
+    inFlight--;
+    decrease();
+  }
+
+  /** Releases a permit without adjusting the limit. */
+  public synchronized void onIgnored() {
+    inFlight--;
+  }
+
+  private void decrease() {
+    limit = Math.max(minLimit, limit * backoffRatio);
+  }
+
+  public synchronized int limit() {
+    return (int) limit;
+  }
+
+  public synchronized int inFlight() {
+    return inFlight;
+  }
+
+  /** Calls rejected because the limit was reached. */
+  public synchronized long rejectedCount() {
+    return rejectedCount;
+  }
+}
@@ -0,0 +1,111 @@
+package com.homechallenge.pokedex.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Stops calling an upstream that keeps failing. After {@code failureThreshold} consecutive
+ * failures, or at once when the upstream rate-limits us, the breaker opens for {@code openDuration}
+ * (or for the upstream's Retry-After, if longer, up to {@code maxOpenDuration}). Once that has
+ * passed a single probe call is let through: its success closes the breaker, its failure opens it
+ * again.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final Duration openDuration;
+  private final Duration maxOpenDuration;
+  private final Clock clock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openUntilMillis;
+  private long openedCount;
+  private long rejectedCount;
+
+  public CircuitBreaker(int failureThreshold, Duration openDuration, Duration maxOpenDuration) {
+    this(failureThreshold, openDuration, maxOpenDuration, Clock.systemUTC());
+  }
+
+  CircuitBreaker(
+      int failureThreshold, Duration openDuration, Duration maxOpenDuration, Clock clock) {
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.maxOpenDuration = maxOpenDuration;
+    this.clock = clock;
+  }
+
+  /**
+   * Whether a call may go out now. While open this is false until the open period ends; the first
+   * caller after that gets the probe and everyone else stays rejected until it completes.
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.OPEN && clock.millis() >= openUntilMillis) {
+      state = State.HALF_OPEN;
+      return true;
+    }
+    rejectedCount++;
+    return false;
+  }
+
+  public synchronized void onSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+  }
+
+  /** Hands back a permit whose call said nothing about the upstream's health. */
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN) {
+      // let the next caller probe instead
+      state = State.OPEN;
+      openUntilMillis = clock.millis();
+    }
+  }
+
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      open(openDuration);
+    }
+  }
+
+  /** The upstream refused the call for now; open regardless of the failure count. */
+  public synchronized void onRateLimited(Duration retryAfter) {
+    consecutiveFailures++;
+    open(retryAfter != null && retryAfter.compareTo(openDuration) > 0 ? retryAfter : openDuration);
+  }
+
+  private void open(Duration duration) {
+    Duration capped = duration.compareTo(maxOpenDuration) > 0 ? maxOpenDuration : duration;
+    if (capped.isZero()) {
+      // a zero max-open-duration turns the breaker off
+      return;
+    }
+    state = State.OPEN;
+    openUntilMillis = clock.millis() + capped.toMillis();
+    openedCount++;
+  }
+
+  public synchronized State state() {
+    return state;
+  }
+
+  /** Times the breaker has opened, including reopening after a failed probe. */
+  public synchronized long openedCount() {
+    return openedCount;
+  }
+
+  /** Calls rejected without reaching the upstream. */
+  public synchronized long rejectedCount() {
+    return rejectedCount;
+  }
+}
@@ -0,0 +1,123 @@
+package com.homechallenge.pokedex.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets: each client may make {@code burst} requests at once and {@code permits}
+ * per {@code period} after that.
+ *
+ * <p>A bucket is a single {@link AtomicLong}, the time at which it will be full again (the generic
+ * cell rate algorithm, equivalent to a token bucket without a refill step): a request is allowed
+ * while that time is at most {@code burst - 1} intervals ahead of now, and pushes it one interval
+ * further with a compare-and-set. Buckets live in a Caffeine cache, whose striped, lock-free reads
+ * make the lookup cheap under contention; a client idle long enough to be full again is evicted,
+ * and {@code maxClients} bounds the memory held for many distinct clients.
+ */
+public final class ClientRateLimiter {
+
+  private static final Function<String, AtomicLong> NEW_BUCKET = client -> new AtomicLong();
+
+  private final String name;
+  private final long intervalNanos;
+  private final long toleranceNanos;
+  private final int burst;
+  private final LongSupplier nanoTime;
+  private final long origin;
+  private final Cache<String, AtomicLong> buckets;
+  private final LongAdder rejections = new LongAdder();
+
+  public ClientRateLimiter(
+      String name, int permits, Duration period, int burst, long maxClients, Duration idleTimeout) {
+    this(name, permits, period, burst, maxClients, idleTimeout, System::nanoTime);
+  }
+
+  ClientRateLimiter(
+      String name,
+      int permits,
+      Duration period,
+      int burst,
+      long maxClients,
+      Duration idleTimeout,
+      LongSupplier nanoTime) {
+    if (permits <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+      throw new IllegalArgumentException(
+          "Rate limit " + name + " needs positive permits, burst and period");
+    }
+    this.name = name;
+    this.intervalNanos = Math.max(1, period.toNanos() / permits);
+    this.toleranceNanos = (burst - 1) * intervalNanos;
+    this.burst = burst;
+    this.nanoTime = nanoTime;
+    // bucket times are relative to this, so a new bucket (0) starts full
+    this.origin = nanoTime.getAsLong();
+    // evicting a bucket before it has refilled would hand its client a full burst early
+    Duration refill = Duration.ofNanos(toleranceNanos + intervalNanos);
+    this.buckets =
+        Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(idleTimeout.compareTo(refill) < 0 ? refill : idleTimeout)
+            .build();
+  }
+
+  /**
+   * Takes a token from {@code client}'s bucket.
+   *
+   * @return 0 if the request may proceed, otherwise the nanoseconds until it would be allowed
+   */
+  public long tryAcquire(String client) {
+    return tryAcquire(client, 1);
+  }
+
+  /**
+   * Takes {@code permits} tokens from {@code client}'s bucket, all or none.
+   *
+   * @param permits between 1 and the burst, as more could never be allowed at once
+   * @return 0 if the request may proceed, otherwise the nanoseconds until it would be allowed
+   */
+  public long tryAcquire(String client, int permits) {
+    if (permits < 1 || permits > burst) {
+      throw new IllegalArgumentException(
+          "Rate limit " + name + " takes 1 to " + burst + " permits at once, not " + permits);
+    }
+    AtomicLong bucket = buckets.get(client, NEW_BUCKET);
+    long now = nanoTime.getAsLong() - origin;
+    long cost = permits * intervalNanos;
+    while (true) {
+      long fullAt = bucket.get();
+      long from = Math.max(fullAt, now);
+      long wait = from + cost - intervalNanos - now - toleranceNanos;
+      if (wait > 0) {
+        rejections.increment();
+        return wait;
+      }
+      if (bucket.compareAndSet(fullAt, from + cost)) {
+        return 0;
+      }
+    }
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /** The most permits a request can take at once. */
+  public int burst() {
+    return burst;
+  }
+
+  /** Clients currently holding a bucket. */
+  public long clients() {
+    return buckets.estimatedSize();
+  }
+
+  /** Requests refused for an empty bucket. */
+  public long rejections() {
+    return rejections.sum();
+  }
+}
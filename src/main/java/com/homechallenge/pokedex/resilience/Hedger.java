@@ -0,0 +1,301 @@
+package com.homechallenge.pokedex.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Hedges idempotent upstream calls. When an attempt has not answered within the hedge delay, a
+ * second identical attempt is started; the first to succeed is used and the other is cancelled. The
+ * call fails only once both attempts have, with the error of the primary.
+ *
+ * <p>The delay is the configured percentile of recent attempt latencies, clamped to {@code
+ * [minDelay, maxDelay]}, so by construction only the slowest calls get a hedge. A budget caps the
+ * extra load: every call earns {@code budgetRatio} of a hedge, each hedge spends one, and at most
+ * {@link #MAX_BUDGET_HEDGES} can be saved up for a burst.
+ */
+public class Hedger {
+
+  /** Calls the attempt once, inline. */
+  public static final Hedger DISABLED = new Hedger(null, 0.95, Duration.ZERO, Duration.ZERO, 0, 1);
+
+  static final int MAX_BUDGET_HEDGES = 10;
+  private static final long BUDGET_UNIT = 1_000_000L;
+  private static final int MIN_SAMPLES = 20;
+  private static final int RECOMPUTE_EVERY = 32;
+  // states of a non-blocking call
+  private static final int PRIMARY_FAILED = 1;
+  private static final int HEDGE_STARTED = 2;
+  private static final int HEDGE_FAILED = 4;
+
+  private final ExecutorService executor;
+  private final double percentile;
+  private final long minDelayNanos;
+  private final long maxDelayNanos;
+  private final long budgetPerCall;
+
+  private final AtomicLong budget = new AtomicLong();
+  private final AtomicLongArray window;
+  private final AtomicLong samples = new AtomicLong();
+  private volatile long delayNanos;
+
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder hedges = new LongAdder();
+  private final LongAdder hedgeWins = new LongAdder();
+  private final LongAdder overBudget = new LongAdder();
+
+  /**
+   * @param executor runs blocking attempts, so the caller can wait for the first with a timeout;
+   *     null disables hedging
+   * @param budgetRatio hedges allowed per call, e.g. 0.05 for at most 5% extra requests
+   * @param window number of recent attempt latencies the percentile is taken over
+   */
+  public Hedger(
+      ExecutorService executor,
+      double percentile,
+      Duration minDelay,
+      Duration maxDelay,
+      double budgetRatio,
+      int window) {
+    this.executor = executor;
+    this.percentile = percentile;
+    this.minDelayNanos = minDelay.toNanos();
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.budgetPerCall = (long) (budgetRatio * BUDGET_UNIT);
+    this.window = new AtomicLongArray(window);
+    this.delayNanos = maxDelayNanos;
+  }
+
+  public boolean enabled() {
+    return executor != null;
+  }
+
+  /** Runs a blocking attempt, hedging it once if it is slow and the budget allows. */
+  public <T> T call(Supplier<T> attempt) {
+    if (!enabled()) {
+      return attempt.get();
+    }
+    earnBudget();
+    Attempt<T> primary = start(attempt);
+    Attempt<T> hedge = null;
+    try {
+      try {
+        return primary.result().get(delayNanos, TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        // slow enough to hedge
+      }
+      if (!spendBudget()) {
+        return primary.result().get();
+      }
+      hedge = start(attempt);
+      return firstSuccess(primary.result(), hedge.result()).get();
+    } catch (ExecutionException e) {
+      throw unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an upstream call", e);
+    } finally {
+      primary.cancel();
+      if (hedge != null) {
+        hedge.cancel();
+      }
+    }
+  }
+
+  /** Subscribes to a cold attempt, resubscribing once as a hedge if it is slow. */
+  public <T> Mono<T> call(Mono<T> attempt) {
+    if (!enabled()) {
+      return attempt;
+    }
+    return Mono.defer(
+        () -> {
+          earnBudget();
+          AtomicInteger state = new AtomicInteger();
+          AtomicReference<Throwable> primaryError = new AtomicReference<>();
+          // an attempt that fails while the other runs waits for it; the first signal wins
+          Mono<T> primary =
+              timed(attempt)
+                  .onErrorResume(
+                      e -> {
+                        primaryError.set(e);
+                        int before = state.getAndUpdate(bits -> bits | PRIMARY_FAILED);
+                        boolean hedgeRunning =
+                            (before & HEDGE_STARTED) != 0 && (before & HEDGE_FAILED) == 0;
+                        return hedgeRunning ? Mono.never() : Mono.error(e);
+                      });
+          Mono<T> hedge =
+              Mono.delay(Duration.ofNanos(delayNanos))
+                  .flatMap(
+                      tick -> {
+                        // a primary failing before the delay is not hedged
+                        if ((state.get() & PRIMARY_FAILED) != 0 || !spendBudget()) {
+                          return Mono.<T>never();
+                        }
+                        if ((state.getAndUpdate(bits -> bits | HEDGE_STARTED) & PRIMARY_FAILED)
+                            != 0) {
+                          return Mono.<T>never();
+                        }
+                        return timed(attempt)
+                            .doOnNext(result -> hedgeWins.increment())
+                            .onErrorResume(
+                                e -> {
+                                  int before = state.getAndUpdate(bits -> bits | HEDGE_FAILED);
+                                  return (before & PRIMARY_FAILED) != 0
+                                      ? Mono.error(primaryError.get())
+                                      : Mono.never();
+                                });
+                      });
+          return Mono.firstWithSignal(primary, hedge);
+        });
+  }
+
+  private <T> Mono<T> timed(Mono<T> attempt) {
+    return Mono.defer(
+        () -> {
+          long start = System.nanoTime();
+          // failures are sampled too, or slow errors would pull the delay down
+          return attempt.doOnTerminate(() -> recordLatency(System.nanoTime() - start));
+        });
+  }
+
+  private <T> Attempt<T> start(Supplier<T> attempt) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicBoolean cancelled = new AtomicBoolean();
+    Future<?> task =
+        executor.submit(
+            () -> {
+              long start = System.nanoTime();
+              try {
+                result.complete(attempt.get());
+              } catch (Throwable t) {
+                result.completeExceptionally(t);
+              } finally {
+                // failures are sampled too, or slow errors would pull the delay down
+                if (!cancelled.get()) {
+                  recordLatency(System.nanoTime() - start);
+                }
+              }
+            });
+    return new Attempt<>(result, task, cancelled);
+  }
+
+  /**
+   * @return the value of whichever attempt succeeds first, or the primary's error once both failed;
+   *     a hedge win is counted by the callback that completes it
+   */
+  private <T> CompletableFuture<T> firstSuccess(
+      CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+    CompletableFuture<T> first = new CompletableFuture<>();
+    AtomicBoolean won = new AtomicBoolean();
+    for (CompletableFuture<T> attempt : List.of(primary, hedge)) {
+      attempt.whenComplete(
+          (value, error) -> {
+            if (error == null) {
+              // counted before the caller is released, so it sees its own win
+              if (won.compareAndSet(false, true)) {
+                if (attempt == hedge) {
+                  hedgeWins.increment();
+                }
+                first.complete(value);
+              }
+            } else if (primary.isCompletedExceptionally() && hedge.isCompletedExceptionally()) {
+              first.completeExceptionally(primary.exceptionNow());
+            }
+          });
+    }
+    return first;
+  }
+
+  private void earnBudget() {
+    calls.increment();
+    long cap = MAX_BUDGET_HEDGES * BUDGET_UNIT;
+    budget.getAndUpdate(current -> Math.min(cap, current + budgetPerCall));
+  }
+
+  private boolean spendBudget() {
+    long before =
+        budget.getAndUpdate(current -> current >= BUDGET_UNIT ? current - BUDGET_UNIT : current);
+    if (before < BUDGET_UNIT) {
+      overBudget.increment();
+      return false;
+    }
+    hedges.increment();
+    return true;
+  }
+
+  private void recordLatency(long nanos) {
+    long count = samples.getAndIncrement();
+    window.set((int) (count % window.length()), nanos);
+    if (count + 1 >= MIN_SAMPLES && (count + 1) % RECOMPUTE_EVERY == 0) {
+      delayNanos = computeDelay((int) Math.min(count + 1, window.length()));
+    }
+  }
+
+  private long computeDelay(int size) {
+    long[] latencies = new long[size];
+    for (int i = 0; i < size; i++) {
+      latencies[i] = window.get(i);
+    }
+    Arrays.sort(latencies);
+    int index = (int) Math.ceil(percentile * size) - 1;
+    long value = latencies[Math.max(0, Math.min(size - 1, index))];
+    return Math.max(minDelayNanos, Math.min(maxDelayNanos, value));
+  }
+
+  private static RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof RuntimeException runtime) {
+      return runtime;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(cause);
+  }
+
+  /** Current hedge delay. */
+  public Duration delay() {
+    return Duration.ofNanos(delayNanos);
+  }
+
+  public long calls() {
+    return calls.sum();
+  }
+
+  /** Hedge attempts started. */
+  public long hedges() {
+    return hedges.sum();
+  }
+
+  /** Hedge attempts that answered before the attempt they hedged. */
+  public long hedgeWins() {
+    return hedgeWins.sum();
+  }
+
+  /** Slow calls not hedged because the budget was spent. */
+  public long overBudget() {
+    return overBudget.sum();
+  }
+
+  private record Attempt<T>(CompletableFuture<T> result, Future<?> task, AtomicBoolean cancelled) {
+    void cancel() {
+      if (!result.isDone()) {
+        cancelled.set(true);
+        task.cancel(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,243 @@
+package com.homechallenge.pokedex.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Answers {@code /pokemon} requests over a client's budget with {@code 429 Too Many Requests} and a
+ * {@code Retry-After}, before they reach the controller. Translated lookups draw on the translated
+ * budget, since they spend the shared FunTranslations quota, and every other lookup on the plain
+ * one. A batch takes one token per distinct name from the budget its lookups use, its body being
+ * read here to count them. Both bursts must hold a batch of {@code pokedex.batch.max-size} names; a
+ * batch with more names than its budget's burst could never be served and gets {@code 413}.
+ *
+ * <p>Clients are told apart by the {@code api-key-header} when it is configured and present, else
+ * by remote address. The key is not authenticated, so it should only be configured behind a gateway
+ * that validates it; behind a proxy, {@code server.forward-headers-strategy} makes the remote
+ * address the client's.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "pokedex.rate-limit.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  static final String POKEMON_PATH = "/pokemon/";
+  static final String TRANSLATED_PATH = "/pokemon/translated/";
+  static final String BATCH_PATH = "/pokemon/batch";
+  // longer keys are cut, bounding what a client can make us hold
+  private static final int MAX_KEY_LENGTH = 128;
+
+  private final ClientRateLimiter plainLimiter;
+  private final ClientRateLimiter translatedLimiter;
+  private final String apiKeyHeader;
+  private final ObjectMapper objectMapper;
+
+  public RateLimitFilter(
+      @Qualifier("plainRateLimiter") ClientRateLimiter plainLimiter,
+      @Qualifier("translatedRateLimiter") ClientRateLimiter translatedLimiter,
+      @Value("${pokedex.rate-limit.api-key-header}") String apiKeyHeader,
+      @Value("${pokedex.batch.max-size}") int maxBatchSize,
+      ObjectMapper objectMapper) {
+    for (ClientRateLimiter limiter : new ClientRateLimiter[] {plainLimiter, translatedLimiter}) {
+      if (limiter.burst() < maxBatchSize) {
+        throw new IllegalStateException(
+            "pokedex.rate-limit."
+                + limiter.name()
+                + ".burst ("
+                + limiter.burst()
+                + ") must be at least pokedex.batch.max-size ("
+                + maxBatchSize
+                + ")");
+      }
+    }
+    this.plainLimiter = plainLimiter;
+    this.translatedLimiter = translatedLimiter;
+    this.objectMapper = objectMapper;
+    this.apiKeyHeader = apiKeyHeader == null || apiKeyHeader.isBlank() ? null : apiKeyHeader;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(POKEMON_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String path = request.getRequestURI();
+    ClientRateLimiter limiter = path.startsWith(TRANSLATED_PATH) ? translatedLimiter : plainLimiter;
+    int permits = 1;
+    if (path.startsWith(BATCH_PATH) && "POST".equals(request.getMethod())) {
+      CachedBodyRequest batch = new CachedBodyRequest(request);
+      request = batch;
+      PokemonBatchRequest body = batch.parse(objectMapper);
+      if (body != null && body.names() != null) {
+        limiter = body.translated() ? translatedLimiter : plainLimiter;
+        permits =
+            (int)
+                Math.max(
+                    1,
+                    body.names().stream()
+                        .map(name -> name == null ? "" : name.trim().toLowerCase(Locale.ROOT))
+                        .distinct()
+                        .count());
+      }
+      if (permits > limiter.burst()) {
+        reject(
+            response,
+            HttpStatus.PAYLOAD_TOO_LARGE,
+            -1,
+            "A batch of "
+                + permits
+                + " names exceeds the "
+                + limiter.name()
+                + " burst of "
+                + limiter.burst()
+                + ", split it");
+        return;
+      }
+    }
+
+    long waitNanos = limiter.tryAcquire(client(request), permits);
+    if (waitNanos == 0) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1);
+    reject(
+        response,
+        HttpStatus.TOO_MANY_REQUESTS,
+        retryAfterSeconds,
+        "Too many " + limiter.name() + " requests, retry after " + retryAfterSeconds + " s");
+  }
+
+  /**
+   * @param retryAfterSeconds omitted when negative, as waiting would not help
+   */
+  private static void reject(
+      HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+      throws IOException {
+    response.setStatus(status.value());
+    if (retryAfterSeconds >= 0) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response
+        .getWriter()
+        .write(
+            "{\"status\":"
+                + status.value()
+                + ",\"error\":\""
+                + status.getReasonPhrase()
+                + "\",\"message\":\""
+                + message
+                + "\"}");
+  }
+
+  private String client(HttpServletRequest request) {
+    if (apiKeyHeader != null) {
+      String key = request.getHeader(apiKeyHeader);
+      if (key != null && !key.isBlank()) {
+        return "key:" + (key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+      }
+    }
+    return "ip:" + request.getRemoteAddr();
+  }
+
+  /** A request whose body has been read up front, so it can be read again by the controller. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = request.getInputStream().readAllBytes();
+    }
+
+    /**
+     * @return the body as a batch request, or null if it is not one; the controller reports why
+     */
+    PokemonBatchRequest parse(ObjectMapper objectMapper) {
+      try {
+        return objectMapper.readValue(body, PokemonBatchRequest.class);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return in.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+          try {
+            if (!isFinished()) {
+              listener.onDataAvailable();
+            }
+            listener.onAllDataRead();
+          } catch (IOException e) {
+            listener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      String encoding = getCharacterEncoding();
+      Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package com.homechallenge.pokedex.resilience;
+
+import com.homechallenge.pokedex.exception.UpstreamUnavailableException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts a {@link CircuitBreaker} and an {@link AimdLimiter} in front of calls to one upstream. A
+ * call that is not let through fails fast with {@link UpstreamUnavailableException}; the outcome of
+ * every other call feeds both. Rate limiting (429) opens the breaker for the Retry-After period;
+ * server errors, timeouts and I/O errors count as failures; other client errors say the upstream is
+ * healthy.
+ */
+public class UpstreamGuard {
+
+  public static final String CIRCUIT_OPEN = "circuit_open";
+  public static final String CONCURRENCY_LIMIT = "concurrency_limit";
+
+  private final String name;
+  private final CircuitBreaker circuitBreaker;
+  private final AimdLimiter limiter;
+
+  public UpstreamGuard(String name, CircuitBreaker circuitBreaker, AimdLimiter limiter) {
+    this.name = name;
+    this.circuitBreaker = circuitBreaker;
+    this.limiter = limiter;
+  }
+
+  /** A guard that never rejects, for callers built without resilience settings. */
+  public static UpstreamGuard unguarded(String name) {
+    return new UpstreamGuard(
+        name,
+        new CircuitBreaker(Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO),
+        new AimdLimiter(
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ZERO, 0.5));
+  }
+
+  public <T> T call(Supplier<T> call) {
+    acquire();
+    long start = System.nanoTime();
+    T result;
+    try {
+      result = call.get();
+    } catch (Throwable e) {
+      // errors and sneaky-thrown checked exceptions too, or the permit and a probe would leak
+      onError(e);
+      throw e;
+    }
+    onSuccess(System.nanoTime() - start);
+    return result;
+  }
+
+  public <T> Mono<T> call(Mono<T> call) {
+    return Mono.defer(
+        () -> {
+          acquire();
+          long start = System.nanoTime();
+          return call.doOnSuccess(result -> onSuccess(System.nanoTime() - start))
+              .doOnError(this::onError)
+              .doOnCancel(this::onCancel);
+        });
+  }
+
+  private void acquire() {
+    if (!limiter.tryAcquire()) {
+      throw new UpstreamUnavailableException(name, CONCURRENCY_LIMIT);
+    }
+    if (!circuitBreaker.tryAcquire()) {
+      limiter.onIgnored();
+      throw new UpstreamUnavailableException(name, CIRCUIT_OPEN);
+    }
+  }
+
+  private void onSuccess(long latencyNanos) {
+    circuitBreaker.onSuccess();
+    limiter.onSuccess(latencyNanos);
+  }
+
+  private void onCancel() {
+    circuitBreaker.onIgnored();
+    limiter.onIgnored();
+  }
+
+  private void onError(Throwable e) {
+    HttpStatusCode status = null;
+    HttpHeaders headers = null;
+    if (e instanceof RestClientResponseException response) {
+      status = response.getStatusCode();
+      headers = response.getResponseHeaders();
+    } else if (e instanceof WebClientResponseException response) {
+      status = response.getStatusCode();
+      headers = response.getHeaders();
+    }
+
+    if (status != null && status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+      circuitBreaker.onRateLimited(retryAfter(headers));
+      limiter.onDropped();
+    } else if ((status != null && status.is5xxServerError()) || isTransportFailure(e)) {
+      circuitBreaker.onFailure();
+      limiter.onDropped();
+    } else if (status != null) {
+      circuitBreaker.onSuccess();
+      limiter.onIgnored();
+    } else {
+      onCancel();
+    }
+  }
+
+  private static boolean isTransportFailure(Throwable e) {
+    return e instanceof ResourceAccessException
+        || e instanceof WebClientRequestException
+        || e instanceof TimeoutException
+        || e.getCause() instanceof IOException
+        || e.getCause() instanceof TimeoutException;
+  }
+
+  /** Parses Retry-After as delay seconds or an HTTP date; null when absent or unreadable. */
+  static Duration retryAfter(HttpHeaders headers) {
+    String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Duration.ofSeconds(Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      // not delay seconds, try the date form
+    }
+    try {
+      Duration delay =
+          Duration.between(
+              ZonedDateTime.now(),
+              ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+      return delay.isNegative() ? Duration.ZERO : delay;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  public String name() {
+    return name;
+  }
+
+  public CircuitBreaker circuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public AimdLimiter limiter() {
+    return limiter;
+  }
+}
@@ -0,0 +1,71 @@
+package com.homechallenge.pokedex.service;
+
+import com.homechallenge.pokedex.cache.CacheSnapshotStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the cache snapshot current. The snapshot is restored before the web server starts taking
+ * requests, rewritten every {@code pokedex.snapshot.interval} (0 for only on shutdown), and written
+ * a last time on shutdown.
+ */
+@Service
+@ConditionalOnProperty(name = "pokedex.snapshot.enabled", havingValue = "true")
+@Slf4j
+public class CacheSnapshotService {
+
+  private final CacheSnapshotStore store;
+  private final Duration interval;
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("cache-snapshot").daemon().factory());
+
+  public CacheSnapshotService(
+      CacheSnapshotStore store, @Value("${pokedex.snapshot.interval}") Duration interval) {
+    this.store = store;
+    this.interval = interval;
+  }
+
+  @PostConstruct
+  public void restore() {
+    long start = System.nanoTime();
+    CacheSnapshotStore.Result result = store.load();
+    log.info(
+        "Restored {} pokemon and {} translations from cache snapshot in {} ms",
+        result.pokemon(),
+        result.translations(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    if (!interval.isZero()) {
+      scheduler.scheduleWithFixedDelay(
+          this::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+    save();
+  }
+
+  void save() {
+    try {
+      CacheSnapshotStore.Result result = store.save();
+      log.debug(
+          "Wrote cache snapshot with {} pokemon and {} translations",
+          result.pokemon(),
+          result.translations());
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to write cache snapshot: {}", e.toString());
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.homechallenge.pokedex.service;
+
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fills the species and translation caches with the configured names and the most requested species
+ * from the persisted {@link RequestStatistics}, through the same service calls the endpoints make,
+ * so the first requests after a deploy are cache hits.
+ *
+ * <p>The warm-up runs once at startup and, if {@code pokedex.warmup.interval} is set, again on that
+ * schedule. Startup waits for the species of the first run, up to {@code readiness-timeout}: Spring
+ * Boot reports the readiness probe as refusing traffic until the application runners have returned.
+ * Translations not yet cached are fetched afterwards, in a second pass over the same names, at most
+ * {@code translation-budget} per {@code translation-budget-period}, leaving the rest of the
+ * FunTranslations quota to real requests; that pass waits for the budget as long as it takes.
+ */
+@Service
+@ConditionalOnProperty(name = "pokedex.warmup.enabled", havingValue = "true")
+@Slf4j
+public class CacheWarmupService implements ApplicationRunner {
+
+  private final PokemonService pokemonService;
+  private final TranslationCache translationCache;
+  private final RequestStatistics requestStatistics;
+  private final List<String> names;
+  private final int topN;
+  private final Duration readinessTimeout;
+  private final Duration interval;
+  private final Duration statisticsSaveInterval;
+  private final int translationBudget;
+  private final long translationBudgetPeriodNanos;
+
+  // start times of recent translation fetches; only the warm-up thread touches it
+  private final Deque<Long> translationFetches = new ArrayDeque<>();
+  private final CountDownLatch firstRun = new CountDownLatch(1);
+  private final ScheduledExecutorService scheduler =
+      Executors.newScheduledThreadPool(
+          2, Thread.ofPlatform().name("cache-warmup-", 0).daemon().factory());
+
+  public CacheWarmupService(
+      PokemonService pokemonService,
+      TranslationCache translationCache,
+      RequestStatistics requestStatistics,
+      @Value("${pokedex.warmup.names}") String names,
+      @Value("${pokedex.warmup.top-n}") int topN,
+      @Value("${pokedex.warmup.readiness-timeout}") Duration readinessTimeout,
+      @Value("${pokedex.warmup.interval}") Duration interval,
+      @Value("${pokedex.warmup.stats-save-interval}") Duration statisticsSaveInterval,
+      @Value("${pokedex.warmup.translation-budget}") int translationBudget,
+      @Value("${pokedex.warmup.translation-budget-period}") Duration translationBudgetPeriod) {
+    this.pokemonService = pokemonService;
+    this.translationCache = translationCache;
+    this.requestStatistics = requestStatistics;
+    this.names =
+        Arrays.stream(names.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .map(name -> name.toLowerCase(Locale.ROOT))
+            .toList();
+    this.topN = topN;
+    this.readinessTimeout = readinessTimeout;
+    this.interval = interval;
+    this.statisticsSaveInterval = statisticsSaveInterval;
+    this.translationBudget = translationBudget;
+    this.translationBudgetPeriodNanos = translationBudgetPeriod.toNanos();
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    try {
+      log.info("Loaded request statistics for {} species", requestStatistics.load());
+    } catch (IOException e) {
+      log.warn("Ignoring unreadable request statistics: {}", e.toString());
+    }
+
+    if (interval.isZero()) {
+      scheduler.execute(this::warmUp);
+    } else {
+      scheduler.scheduleWithFixedDelay(this::warmUp, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    scheduler.scheduleWithFixedDelay(
+        this::saveStatistics,
+        statisticsSaveInterval.toMillis(),
+        statisticsSaveInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+
+    if (!firstRun.await(readinessTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn(
+          "Cache warm-up still running after {} ms, accepting traffic",
+          readinessTimeout.toMillis());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+    saveStatistics();
+  }
+
+  /**
+   * Warms the species cache for every name, then fetches the translations still missing within the
+   * budget; a name that fails is skipped. Readiness is released once the species are warm, so a
+   * translation waiting for the budget never holds up the species of later names.
+   */
+  Result warmUp() {
+    long start = System.nanoTime();
+    int species = 0;
+    int translations = 0;
+    int failed = 0;
+    List<String> untranslated = new ArrayList<>();
+    try {
+      for (String name : namesToWarm()) {
+        try {
+          PokemonDTO pokemon = pokemonService.getPokemonByName(name);
+          species++;
+          if (needsTranslation(pokemon)) {
+            untranslated.add(name);
+          }
+        } catch (RuntimeException e) {
+          failed++;
+          log.debug("Cache warm-up skipped {}: {}", name, e.toString());
+        }
+      }
+      firstRun.countDown();
+      log.info(
+          "Warmed up {} species in {} ms; {} failed, {} translations to fetch",
+          species,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+          failed,
+          untranslated.size());
+
+      for (String name : untranslated) {
+        if (!awaitTranslationBudget()) {
+          break;
+        }
+        try {
+          pokemonService.getTranslatedPokemonByName(name);
+          translations++;
+        } catch (RuntimeException e) {
+          failed++;
+          log.debug("Cache warm-up skipped the translation of {}: {}", name, e.toString());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      firstRun.countDown();
+    }
+    log.info(
+        "Fetched {} of {} warm-up translations in {} ms",
+        translations,
+        untranslated.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return new Result(species, translations, failed);
+  }
+
+  /** Configured names first, then the most requested species. */
+  Set<String> namesToWarm() {
+    Set<String> warm = new LinkedHashSet<>(names);
+    warm.addAll(requestStatistics.top(topN));
+    return warm;
+  }
+
+  private boolean needsTranslation(PokemonDTO pokemon) {
+    if (pokemonService.translatesLocally()
+        || pokemon.description() == null
+        || pokemon.description().isEmpty()) {
+      return false;
+    }
+    String translationType = PokemonService.determineTranslationType(pokemon);
+    // a cached failure counts as cached, it is retried once it expires
+    return translationCache.get(translationType, pokemon.description()) == null;
+  }
+
+  /**
+   * Waits until one more translation fits in the budget and records it.
+   *
+   * @return false when the budget is zero and translations are never warmed
+   */
+  private boolean awaitTranslationBudget() throws InterruptedException {
+    if (translationBudget <= 0) {
+      return false;
+    }
+    if (translationFetches.size() >= translationBudget) {
+      long wait = translationFetches.peekFirst() + translationBudgetPeriodNanos - System.nanoTime();
+      if (wait > 0) {
+        log.debug("Translation budget spent, next warm-up translation in {} s", wait / 1e9);
+        TimeUnit.NANOSECONDS.sleep(wait);
+      }
+      translationFetches.pollFirst();
+    }
+    translationFetches.addLast(System.nanoTime());
+    return true;
+  }
+
+  void saveStatistics() {
+    try {
+      requestStatistics.save();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to write request statistics: {}", e.toString());
+    }
+  }
+
+  record Result(int species, int translations, int failed) {}
+}
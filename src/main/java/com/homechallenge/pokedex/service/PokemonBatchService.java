@@ -0,0 +1,115 @@
+package com.homechallenge.pokedex.service;
+
+import com.homechallenge.pokedex.dto.PokemonBatchError;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Resolves many Pokemon in one call. Lookups fan out concurrently, at most {@code parallelism} at a
+ * time per batch, and a failing name is reported as an item error instead of failing the batch.
+ */
+@Service
+@Slf4j
+public class PokemonBatchService {
+
+  private final PokemonService pokemonService;
+  private final ExecutorService batchExecutor;
+  private final int maxSize;
+  private final int parallelism;
+
+  public PokemonBatchService(
+      PokemonService pokemonService,
+      @Qualifier("batchExecutor") ExecutorService batchExecutor,
+      @Value("${pokedex.batch.max-size}") int maxSize,
+      @Value("${pokedex.batch.parallelism}") int parallelism) {
+    this.pokemonService = pokemonService;
+    this.batchExecutor = batchExecutor;
+    this.maxSize = maxSize;
+    this.parallelism = parallelism;
+  }
+
+  public PokemonBatchResponse getPokemonBatch(PokemonBatchRequest request) {
+    if (request == null || request.names() == null || request.names().isEmpty()) {
+      throw new IllegalArgumentException("Pokemon names cannot be null or empty");
+    }
+    if (request.names().size() > maxSize) {
+      throw new IllegalArgumentException("A batch cannot contain more than " + maxSize + " names");
+    }
+
+    log.debug(
+        "Fetching batch of {} pokemon (translated: {})",
+        request.names().size(),
+        request.translated());
+
+    Semaphore permits = new Semaphore(parallelism);
+    Map<String, Lookup> lookups = new LinkedHashMap<>();
+    for (String name : request.names()) {
+      lookups.computeIfAbsent(
+          normalize(name),
+          key ->
+              new Lookup(
+                  name, batchExecutor.submit(() -> lookup(name, request.translated(), permits))));
+    }
+
+    List<PokemonDTO> results = new ArrayList<>(lookups.size());
+    List<PokemonBatchError> errors = new ArrayList<>();
+    for (Lookup lookup : lookups.values()) {
+      try {
+        results.add(lookup.result().get());
+      } catch (ExecutionException e) {
+        errors.add(toError(lookup.name(), e.getCause()));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        lookups.values().forEach(pending -> pending.result().cancel(true));
+        throw new IllegalStateException("Interrupted while fetching pokemon batch", e);
+      }
+    }
+    return new PokemonBatchResponse(results, errors);
+  }
+
+  private PokemonDTO lookup(String name, boolean translated, Semaphore permits)
+      throws InterruptedException {
+    permits.acquire();
+    try {
+      return translated
+          ? pokemonService.getTranslatedPokemonByName(name)
+          : pokemonService.getPokemonByName(name);
+    } finally {
+      permits.release();
+    }
+  }
+
+  static PokemonBatchError toError(String name, Throwable cause) {
+    if (cause instanceof PokemonNotFoundException) {
+      return new PokemonBatchError(name, HttpStatus.NOT_FOUND.value(), cause.getMessage());
+    }
+    if (cause instanceof IllegalArgumentException) {
+      return new PokemonBatchError(name, HttpStatus.BAD_REQUEST.value(), cause.getMessage());
+    }
+    log.warn("Batch lookup failed for pokemon: {}", name, cause);
+    return new PokemonBatchError(
+        name, HttpStatus.BAD_GATEWAY.value(), "Error fetching pokemon data for: " + name);
+  }
+
+  static String normalize(String name) {
+    return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private record Lookup(String name, Future<PokemonDTO> result) {}
+}
@@ -0,0 +1,151 @@
+package com.homechallenge.pokedex.service;
+
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSearchResponse;
+import com.homechallenge.pokedex.index.BundledSpeciesNames;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameTrie;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Name suggestions for {@code GET /pokemon/search}, answered from an in-memory {@link
+ * SpeciesNameTrie} without any upstream call.
+ *
+ * <p>The trie holds the bundled species names in dex order, then the species of the local index,
+ * then the names in the species cache, so species PokeAPI resolved since the list was bundled are
+ * suggested too. It is rebuilt every {@code pokedex.search.rebuild-interval} on a background thread
+ * and swapped in whole; searches keep reading the previous trie meanwhile and never wait.
+ */
+@Service
+@Slf4j
+public class PokemonSearchService {
+
+  private final List<String> bundledNames;
+  private final SpeciesIndex speciesIndex;
+  private final PokemonCache pokemonCache;
+  private final int maxResults;
+  private final int maxEdits;
+  private final int maxQueryLength;
+  private final Duration rebuildInterval;
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("species-search").daemon().factory());
+
+  private volatile SpeciesNameTrie trie = SpeciesNameTrie.EMPTY;
+
+  public PokemonSearchService(
+      SpeciesIndex speciesIndex,
+      PokemonCache pokemonCache,
+      @Value("${pokedex.search.max-results}") int maxResults,
+      @Value("${pokedex.search.max-edits}") int maxEdits,
+      @Value("${pokedex.search.max-query-length}") int maxQueryLength,
+      @Value("${pokedex.search.rebuild-interval}") Duration rebuildInterval)
+      throws IOException {
+    this.bundledNames = BundledSpeciesNames.load();
+    this.speciesIndex = speciesIndex;
+    this.pokemonCache = pokemonCache;
+    this.maxResults = maxResults;
+    this.maxEdits = maxEdits;
+    this.maxQueryLength = maxQueryLength;
+    this.rebuildInterval = rebuildInterval;
+  }
+
+  @PostConstruct
+  public void start() {
+    long start = System.nanoTime();
+    SpeciesNameTrie built = rebuild();
+    log.info(
+        "Species search index built with {} names, {} nodes (~{} KB) in {} ms",
+        built.size(),
+        built.nodes(),
+        built.estimatedBytes() / 1024,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+    if (!rebuildInterval.isZero()) {
+      scheduler.scheduleWithFixedDelay(
+          this::rebuildQuietly,
+          rebuildInterval.toMillis(),
+          rebuildInterval.toMillis(),
+          TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * @param query at most {@code pokedex.search.max-query-length} characters
+   * @param limit the number of suggestions wanted, capped at {@code pokedex.search.max-results}
+   */
+  public PokemonSearchResponse search(String query, int limit) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query cannot be null or empty");
+    }
+    if (query.length() > maxQueryLength) {
+      throw new IllegalArgumentException(
+          "Search query cannot be longer than " + maxQueryLength + " characters");
+    }
+    String key = SpeciesNameTrie.normalize(query);
+    int wanted = Math.min(Math.max(limit, 1), maxResults);
+    SpeciesNameTrie current = trie;
+
+    List<String> suggestions = current.complete(key, wanted);
+    if (suggestions.size() < wanted) {
+      for (String similar : current.similar(key, editsFor(key), wanted)) {
+        if (suggestions.size() == wanted) {
+          break;
+        }
+        if (!suggestions.contains(similar)) {
+          suggestions.add(similar);
+        }
+      }
+    }
+    return new PokemonSearchResponse(query, suggestions);
+  }
+
+  /** Builds a new trie from the current names and swaps it in. */
+  SpeciesNameTrie rebuild() {
+    List<String> names = new ArrayList<>(bundledNames);
+    names.addAll(speciesIndex.names());
+    for (PokemonDTO pokemon : pokemonCache.nativeCache().asMap().values()) {
+      if (pokemon.name() != null) {
+        names.add(pokemon.name());
+      }
+    }
+    SpeciesNameTrie built = SpeciesNameTrie.build(names);
+    trie = built;
+    return built;
+  }
+
+  private void rebuildQuietly() {
+    try {
+      SpeciesNameTrie built = rebuild();
+      log.debug("Rebuilt species search index with {} names", built.size());
+    } catch (RuntimeException e) {
+      log.warn(
+          "Failed to rebuild species search index, keeping the previous one: {}", e.toString());
+    }
+  }
+
+  /** One typo in short queries, up to the configured maximum in longer ones. */
+  private int editsFor(String key) {
+    if (key.length() < 3) {
+      return 0;
+    }
+    return Math.min(maxEdits, key.length() < 6 ? 1 : 2);
+  }
+}
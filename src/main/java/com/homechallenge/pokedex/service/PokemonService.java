@@ -5,13 +5,27 @@ import static com.homechallenge.pokedex.util.PokemonUtils.POKEMON_SPECIES_PATH;
 import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATE_PATH;
 import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_SHAKESPEARE;
 import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_YODA;
+import static com.homechallenge.pokedex.util.PokemonUtils.cleanFlavorText;
 
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
 import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
 import com.homechallenge.pokedex.exception.PokemonNotFoundException;
-import java.util.List;
+import com.homechallenge.pokedex.exception.UpstreamUnavailableException;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import com.homechallenge.pokedex.util.SingleFlight;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -23,12 +37,44 @@ public class PokemonService {
 
   private final RestClient restClient;
   private final RestClient translationRestClient;
+  private final PokemonCache pokemonCache;
+  private final TranslationCache translationCache;
+  private final SpeciesIndex speciesIndex;
+  private final boolean offline;
+  private final PokedexMetrics metrics;
+  private final UpstreamGuard translationGuard;
+  private final Hedger pokeApiHedger;
+  private final LocalTranslation localTranslation;
+  private final SpeciesNameFilter speciesNameFilter;
+  private final NotFoundCache notFoundCache;
+  private final SingleFlight<String, PokemonDTO> pokemonFlights = new SingleFlight<>();
+  private final SingleFlight<TranslationRequest, String> translationFlights = new SingleFlight<>();
 
   public PokemonService(
       @Qualifier("pokeApiRestClient") RestClient pokeapiRestClient,
-      @Qualifier("translationRestClient") RestClient translationRestClient) {
+      @Qualifier("translationRestClient") RestClient translationRestClient,
+      PokemonCache pokemonCache,
+      TranslationCache translationCache,
+      SpeciesIndex speciesIndex,
+      @Value("${pokeapi.offline}") boolean offline,
+      PokedexMetrics metrics,
+      @Qualifier("translationGuard") UpstreamGuard translationGuard,
+      @Qualifier("pokeApiHedger") Hedger pokeApiHedger,
+      LocalTranslation localTranslation,
+      SpeciesNameFilter speciesNameFilter,
+      NotFoundCache notFoundCache) {
     this.restClient = pokeapiRestClient;
     this.translationRestClient = translationRestClient;
+    this.pokemonCache = pokemonCache;
+    this.translationCache = translationCache;
+    this.speciesIndex = speciesIndex;
+    this.offline = offline;
+    this.metrics = metrics;
+    this.translationGuard = translationGuard;
+    this.pokeApiHedger = pokeApiHedger;
+    this.localTranslation = localTranslation;
+    this.speciesNameFilter = speciesNameFilter;
+    this.notFoundCache = notFoundCache;
   }
 
   public PokemonDTO getPokemonByName(String name) {
@@ -36,17 +82,77 @@ public class PokemonService {
       throw new IllegalArgumentException("Pokemon name cannot be null or empty");
     }
 
-    log.info("Fetching pokemon data for: {}", name.toLowerCase());
+    PokemonDTO indexed = speciesIndex.find(name);
+    if (indexed != null) {
+      log.debug("Index hit for pokemon: {}", name.toLowerCase());
+      return indexed;
+    }
+    if (offline) {
+      metrics.pokemonNotFound();
+      throw new PokemonNotFoundException(name);
+    }
+
+    // a stale hit is still served; the cache reloads it in the background
+    PokemonDTO cached = pokemonCache.get(name, () -> loadPokemon(name));
+    if (cached != null) {
+      log.debug("Cache hit for pokemon: {}", name.toLowerCase());
+      return cached;
+    }
+    if (!speciesNameFilter.mightExist(name) || notFoundCache.contains(name)) {
+      log.debug("Known missing pokemon, not calling PokeAPI: {}", name.toLowerCase());
+      metrics.pokemonNotFound();
+      throw new PokemonNotFoundException(name);
+    }
+
+    return pokemonFlights.execute(PokemonCache.normalize(name), () -> fetchPokemon(name));
+  }
+
+  private PokemonDTO fetchPokemon(String name) {
+    // a concurrent flight for the same key may have completed since the first lookup
+    PokemonDTO cached = pokemonCache.get(name);
+    if (cached != null) {
+      return cached;
+    }
 
+    log.debug("Fetching pokemon data for: {}", name.toLowerCase());
+    PokemonDTO pokemon = loadPokemon(name);
+    pokemonCache.put(name, pokemon);
+    return pokemon;
+  }
+
+  /** Fetches and maps a species from PokeAPI without consulting the cache. */
+  private PokemonDTO loadPokemon(String name) {
     try {
-      Map<String, Object> response =
-          restClient.get().uri(POKEMON_SPECIES_PATH, name.toLowerCase()).retrieve().body(Map.class);
-      if (response == null || response.isEmpty()) {
-        throw new PokemonNotFoundException(name);
-      }
-      return mapToPokemonDTO(response);
+      PokemonSpeciesResponse response =
+          metrics.recordUpstreamCall(
+              PokedexMetrics.POKEAPI,
+              () ->
+                  pokeApiHedger.call(
+                      () -> {
+                        PokemonSpeciesResponse species =
+                            restClient
+                                .get()
+                                .uri(POKEMON_SPECIES_PATH, name.toLowerCase())
+                                .retrieve()
+                                .onStatus(
+                                    status -> status.isSameCodeAs(HttpStatus.NOT_FOUND),
+                                    (request, notFound) -> {
+                                      throw new PokemonNotFoundException(name);
+                                    })
+                                .body(PokemonSpeciesResponse.class);
+                        if (species == null || species.isEmpty()) {
+                          throw new PokemonNotFoundException(name);
+                        }
+                        return species;
+                      }));
+      PokemonDTO pokemon = metrics.recordMapping(() -> mapToPokemonDTO(response));
+      speciesNameFilter.add(name);
+      speciesNameFilter.add(pokemon.name());
+      return pokemon;
     } catch (PokemonNotFoundException e) {
       log.error("Error fetching pokemon data for: {}", name, e);
+      metrics.pokemonNotFound();
+      notFoundCache.put(name);
       throw new PokemonNotFoundException(name);
     }
   }
@@ -56,117 +162,151 @@ public class PokemonService {
       throw new IllegalArgumentException("Pokemon name cannot be null or empty");
     }
 
-    log.info("Fetching translated pokemon data for: {}", name);
+    log.debug("Fetching translated pokemon data for: {}", name);
     PokemonDTO pokemon = getPokemonByName(name);
 
-    if (pokemon != null
-        && pokemon.getDescription() != null
-        && !pokemon.getDescription().isEmpty()) {
+    if (pokemon != null && pokemon.description() != null && !pokemon.description().isEmpty()) {
       String translationType = determineTranslationType(pokemon);
-      String translatedDescription = translate(pokemon.getDescription(), translationType);
-      pokemon.setDescription(translatedDescription);
+      metrics.translationRequested(translationType);
+      String translatedDescription = translate(pokemon.description(), translationType);
+      pokemon = pokemon.withDescription(translatedDescription);
     }
 
     return pokemon;
   }
 
-  private String determineTranslationType(PokemonDTO pokemon) {
-    if (pokemon.isLegendary() || HABITAT_CAVE.equalsIgnoreCase(pokemon.getHabitat())) {
+  static String determineTranslationType(PokemonDTO pokemon) {
+    if (pokemon.legendary() || HABITAT_CAVE.equalsIgnoreCase(pokemon.habitat())) {
       return TRANSLATION_TYPE_YODA;
     }
     return TRANSLATION_TYPE_SHAKESPEARE;
   }
 
+  /** Whether translations are computed in process, so never cost a FunTranslations call. */
+  public boolean translatesLocally() {
+    return localTranslation.isPrimary();
+  }
+
   private String translate(String text, String translationType) {
-    log.info("Translating text to {}: {}", translationType, text);
+    String local = localTranslation.primary(text, translationType);
+    if (local != null) {
+      metrics.translatedLocally(translationType);
+      return local;
+    }
 
-    try {
-      MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-      formData.add("text", text);
-
-      Map<String, Object> response =
-          translationRestClient
-              .post()
-              .uri(TRANSLATE_PATH, translationType)
-              .body(formData)
-              .retrieve()
-              .body(Map.class);
-
-      if (response != null && response.containsKey("contents")) {
-        Map<String, Object> contents = (Map<String, Object>) response.get("contents");
-        if (contents != null && contents.containsKey("translated")) {
-          String translated = (String) contents.get("translated");
-          if (translated != null && !translated.trim().isEmpty()) {
-            log.info("Translation successful: {}", translated);
-            return translated;
-          }
-        }
+    TranslationCache.Entry cached =
+        translationCache.get(
+            translationType, text, () -> requestTranslation(text, translationType));
+    if (cached != null) {
+      log.debug("Translation cache hit for {} (failed: {})", translationType, cached.failed());
+      if (cached.failed()) {
+        metrics.translationFallback(translationType, PokedexMetrics.FALLBACK_CACHED_FAILURE);
+        return fallback(text, translationType);
       }
-      log.warn("Translation response did not contain valid translated text");
-    } catch (Exception e) {
-      log.warn("Failed to translate text, using original description. Error: {}", e.getMessage());
+      return cached.translated();
     }
 
-    return text;
+    return translationFlights.execute(
+        new TranslationRequest(translationType, text),
+        () -> callTranslationApi(text, translationType));
   }
 
-  private PokemonDTO mapToPokemonDTO(Map<String, Object> apiResponse) {
-    PokemonDTO dto = new PokemonDTO();
+  private String callTranslationApi(String text, String translationType) {
+    TranslationCache.Entry cached = translationCache.get(translationType, text);
+    if (cached != null) {
+      return cached.failed() ? fallback(text, translationType) : cached.translated();
+    }
+
+    log.debug("Translating {} chars to {}", text.length(), translationType);
 
     try {
-      if (apiResponse.get("id") != null) {
-        dto.setId(((Number) apiResponse.get("id")).longValue());
+      String translated = requestTranslation(text, translationType);
+      if (translated != null) {
+        log.debug("Translation to {} succeeded", translationType);
+        translationCache.putSuccess(translationType, text, translated);
+        return translated;
       }
+      log.warn("Translation response did not contain valid translated text");
+      metrics.translationFallback(translationType, PokedexMetrics.FALLBACK_EMPTY_RESPONSE);
+    } catch (UpstreamUnavailableException e) {
+      // the guard decides when to try again, so there is no failure to cache
+      log.debug("Skipping translation, using fallback: {}", e.getMessage());
+      metrics.translationFallback(translationType, e.getReason());
+      return fallback(text, translationType);
+    } catch (Exception e) {
+      log.warn("Failed to translate text, using fallback. Error: {}", e.getMessage());
+      metrics.translationFallback(translationType, PokedexMetrics.FALLBACK_ERROR);
+    }
 
-      if (apiResponse.get("name") != null) {
-        dto.setName((String) apiResponse.get("name"));
-      }
+    translationCache.putFailure(translationType, text);
+    return fallback(text, translationType);
+  }
 
-      if (apiResponse.get("is_legendary") != null) {
-        dto.setLegendary((Boolean) apiResponse.get("is_legendary"));
-      }
+  /**
+   * @return the local translation when local translation is the fallback, else the original text
+   */
+  private String fallback(String text, String translationType) {
+    String local = localTranslation.fallback(text, translationType);
+    if (local == null) {
+      return text;
+    }
+    metrics.translatedLocally(translationType);
+    return local;
+  }
 
-      Map<String, Object> habitat = (Map<String, Object>) apiResponse.get("habitat");
-      if (habitat != null && habitat.get("name") != null) {
-        dto.setHabitat((String) habitat.get("name"));
-      }
+  /**
+   * @return the translated text, or null when the response carries none
+   */
+  private String requestTranslation(String text, String translationType) {
+    MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+    formData.add("text", text);
 
-      List<Map<String, Object>> flavorTextEntries =
-          (List<Map<String, Object>>) apiResponse.get("flavor_text_entries");
-
-      if (flavorTextEntries != null && !flavorTextEntries.isEmpty()) {
-        Map<String, Object> firstEntry =
-            flavorTextEntries.stream()
-                .filter(
-                    f -> {
-                      if (f == null || f.get("language") == null) {
-                        return false;
-                      }
-                      Map<String, Object> language = (Map<String, Object>) f.get("language");
-                      return language.get("name") != null
-                          && "en".equalsIgnoreCase(language.get("name").toString());
-                    })
-                .findFirst()
-                .orElse(null);
-
-        if (firstEntry != null && firstEntry.get("flavor_text") != null) {
-          String flavorText = firstEntry.get("flavor_text").toString();
-          String cleanedDescription = flavorText.replaceAll("[\\n\\f]", " ");
-          dto.setDescription(cleanedDescription);
-        } else {
-          log.warn("No English text found for pokemon");
-          dto.setDescription("");
-        }
-      } else {
-        log.warn("No text entries found for pokemon");
-        dto.setDescription("");
+    Map<String, Object> response =
+        translationGuard.call(
+            () ->
+                metrics.recordUpstreamCall(
+                    PokedexMetrics.FUNTRANSLATIONS,
+                    () ->
+                        translationRestClient
+                            .post()
+                            .uri(TRANSLATE_PATH, translationType)
+                            .body(formData)
+                            .retrieve()
+                            .body(Map.class)));
+    return extractTranslatedText(response);
+  }
+
+  /**
+   * @return the non-blank contents.translated value of a FunTranslations response, or null
+   */
+  static String extractTranslatedText(Map<String, Object> response) {
+    if (response != null && response.get("contents") instanceof Map<?, ?> contents) {
+      if (contents.get("translated") instanceof String translated && !translated.isBlank()) {
+        return translated;
       }
-    } catch (Exception e) {
-      log.error("Unexpected error mapping Pokemon DTO", e);
-      throw new RuntimeException("Error mapping Pokemon data", e);
+    }
+    return null;
+  }
+
+  static PokemonDTO mapToPokemonDTO(PokemonSpeciesResponse apiResponse) {
+    String description;
+    if (apiResponse.englishFlavorText() != null) {
+      description = cleanFlavorText(apiResponse.englishFlavorText());
+    } else {
+      log.warn("No English text found for pokemon");
+      description = "";
     }
 
-    log.info("Mapped Pokemon: {}", dto.getName());
+    PokemonDTO dto =
+        new PokemonDTO(
+            apiResponse.id() == null ? 0 : apiResponse.id(),
+            apiResponse.name(),
+            description,
+            apiResponse.habitat(),
+            apiResponse.isLegendary());
+    log.debug("Mapped Pokemon: {}", dto.name());
     return dto;
   }
+
+  private record TranslationRequest(String translationType, String text) {}
 }
@@ -0,0 +1,346 @@
+package com.homechallenge.pokedex.service;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.POKEMON_SPECIES_PATH;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATE_PATH;
+
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.dto.PokemonBatchError;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import com.homechallenge.pokedex.exception.UpstreamUnavailableException;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link PokemonService} and {@link PokemonBatchService}. Upstream
+ * calls go through {@link WebClient}, so a request holds no thread while it waits on PokeAPI or
+ * FunTranslations. Caching, coalescing and mapping behave exactly as on the blocking path:
+ * concurrent misses for the same species, or the same text and translation type, share one upstream
+ * call.
+ */
+@Service
+@Profile("reactive")
+@Slf4j
+public class ReactivePokemonService {
+
+  private static final ParameterizedTypeReference<Map<String, Object>> TRANSLATION_RESPONSE =
+      new ParameterizedTypeReference<>() {};
+
+  private final WebClient pokeApiWebClient;
+  private final WebClient translationWebClient;
+  private final PokemonCache pokemonCache;
+  private final TranslationCache translationCache;
+  private final SpeciesIndex speciesIndex;
+  private final boolean offline;
+  private final PokedexMetrics metrics;
+  private final UpstreamGuard translationGuard;
+  private final Hedger pokeApiHedger;
+  private final LocalTranslation localTranslation;
+  private final SpeciesNameFilter speciesNameFilter;
+  private final NotFoundCache notFoundCache;
+  private final int batchMaxSize;
+  private final int batchParallelism;
+  private final ConcurrentMap<String, Mono<PokemonDTO>> pokemonFlights = new ConcurrentHashMap<>();
+  private final ConcurrentMap<TranslationRequest, Mono<String>> translationFlights =
+      new ConcurrentHashMap<>();
+
+  public ReactivePokemonService(
+      @Qualifier("pokeApiWebClient") WebClient pokeApiWebClient,
+      @Qualifier("translationWebClient") WebClient translationWebClient,
+      PokemonCache pokemonCache,
+      TranslationCache translationCache,
+      SpeciesIndex speciesIndex,
+      @Value("${pokeapi.offline}") boolean offline,
+      PokedexMetrics metrics,
+      @Qualifier("translationGuard") UpstreamGuard translationGuard,
+      @Qualifier("pokeApiHedger") Hedger pokeApiHedger,
+      LocalTranslation localTranslation,
+      SpeciesNameFilter speciesNameFilter,
+      NotFoundCache notFoundCache,
+      @Value("${pokedex.batch.max-size}") int batchMaxSize,
+      @Value("${pokedex.batch.parallelism}") int batchParallelism) {
+    this.pokeApiWebClient = pokeApiWebClient;
+    this.translationWebClient = translationWebClient;
+    this.pokemonCache = pokemonCache;
+    this.translationCache = translationCache;
+    this.speciesIndex = speciesIndex;
+    this.offline = offline;
+    this.metrics = metrics;
+    this.translationGuard = translationGuard;
+    this.pokeApiHedger = pokeApiHedger;
+    this.localTranslation = localTranslation;
+    this.speciesNameFilter = speciesNameFilter;
+    this.notFoundCache = notFoundCache;
+    this.batchMaxSize = batchMaxSize;
+    this.batchParallelism = batchParallelism;
+  }
+
+  public Mono<PokemonDTO> getPokemonByName(String name) {
+    if (name == null || name.trim().isEmpty()) {
+      return Mono.error(new IllegalArgumentException("Pokemon name cannot be null or empty"));
+    }
+
+    PokemonDTO indexed = speciesIndex.find(name);
+    if (indexed != null) {
+      log.debug("Index hit for pokemon: {}", name.toLowerCase());
+      return Mono.just(indexed);
+    }
+    if (offline) {
+      metrics.pokemonNotFound();
+      return Mono.error(new PokemonNotFoundException(name));
+    }
+
+    // a stale hit is still served; the reload runs on a refresher thread, so it may block
+    PokemonDTO cached = pokemonCache.get(name, () -> loadPokemon(name).block());
+    if (cached != null) {
+      log.debug("Cache hit for pokemon: {}", name.toLowerCase());
+      return Mono.just(cached);
+    }
+    if (!speciesNameFilter.mightExist(name) || notFoundCache.contains(name)) {
+      log.debug("Known missing pokemon, not calling PokeAPI: {}", name.toLowerCase());
+      metrics.pokemonNotFound();
+      return Mono.error(new PokemonNotFoundException(name));
+    }
+
+    return coalesce(pokemonFlights, PokemonCache.normalize(name), () -> fetchPokemon(name));
+  }
+
+  private Mono<PokemonDTO> fetchPokemon(String name) {
+    return Mono.defer(
+        () -> {
+          PokemonDTO cached = pokemonCache.get(name);
+          if (cached != null) {
+            return Mono.just(cached);
+          }
+
+          log.debug("Fetching pokemon data for: {}", name.toLowerCase());
+          return loadPokemon(name).doOnNext(pokemon -> pokemonCache.put(name, pokemon));
+        });
+  }
+
+  /** Fetches and maps a species from PokeAPI without consulting the cache. */
+  private Mono<PokemonDTO> loadPokemon(String name) {
+    Mono<PokemonSpeciesResponse> species =
+        pokeApiWebClient
+            .get()
+            .uri(POKEMON_SPECIES_PATH, name.toLowerCase())
+            .retrieve()
+            .onStatus(
+                HttpStatus.NOT_FOUND::isSameCodeAs,
+                notFound -> Mono.error(new PokemonNotFoundException(name)))
+            .bodyToMono(PokemonSpeciesResponse.class)
+            .filter(response -> !response.isEmpty())
+            .switchIfEmpty(Mono.error(() -> new PokemonNotFoundException(name)));
+    return metrics
+        .recordUpstreamCall(PokedexMetrics.POKEAPI, pokeApiHedger.call(species))
+        .map(response -> metrics.recordMapping(() -> PokemonService.mapToPokemonDTO(response)))
+        .doOnNext(
+            pokemon -> {
+              speciesNameFilter.add(name);
+              speciesNameFilter.add(pokemon.name());
+            })
+        .doOnError(
+            PokemonNotFoundException.class,
+            e -> {
+              log.error("Error fetching pokemon data for: {}", name, e);
+              metrics.pokemonNotFound();
+              notFoundCache.put(name);
+            });
+  }
+
+  public Mono<PokemonDTO> getTranslatedPokemonByName(String name) {
+    if (name == null || name.trim().isEmpty()) {
+      return Mono.error(new IllegalArgumentException("Pokemon name cannot be null or empty"));
+    }
+
+    log.debug("Fetching translated pokemon data for: {}", name);
+    return getPokemonByName(name)
+        .flatMap(
+            pokemon -> {
+              if (pokemon.description() == null || pokemon.description().isEmpty()) {
+                return Mono.just(pokemon);
+              }
+              String translationType = PokemonService.determineTranslationType(pokemon);
+              metrics.translationRequested(translationType);
+              return translate(pokemon.description(), translationType)
+                  .map(pokemon::withDescription);
+            });
+  }
+
+  public Mono<PokemonBatchResponse> getPokemonBatch(PokemonBatchRequest request) {
+    if (request == null || request.names() == null || request.names().isEmpty()) {
+      return Mono.error(new IllegalArgumentException("Pokemon names cannot be null or empty"));
+    }
+    if (request.names().size() > batchMaxSize) {
+      return Mono.error(
+          new IllegalArgumentException(
+              "A batch cannot contain more than " + batchMaxSize + " names"));
+    }
+
+    log.debug(
+        "Fetching batch of {} pokemon (translated: {})",
+        request.names().size(),
+        request.translated());
+
+    Map<String, String> distinctNames = new LinkedHashMap<>();
+    for (String name : request.names()) {
+      distinctNames.putIfAbsent(PokemonBatchService.normalize(name), name);
+    }
+
+    List<PokemonDTO> results = new ArrayList<>(distinctNames.size());
+    List<PokemonBatchError> errors = new ArrayList<>();
+    return Flux.fromIterable(distinctNames.values())
+        .flatMapSequential(
+            name ->
+                (request.translated() ? getTranslatedPokemonByName(name) : getPokemonByName(name))
+                    .<Object>map(pokemon -> pokemon)
+                    .onErrorResume(e -> Mono.just(PokemonBatchService.toError(name, e))),
+            batchParallelism)
+        .doOnNext(
+            item -> {
+              if (item instanceof PokemonDTO pokemon) {
+                results.add(pokemon);
+              } else {
+                errors.add((PokemonBatchError) item);
+              }
+            })
+        .then(Mono.fromSupplier(() -> new PokemonBatchResponse(results, errors)));
+  }
+
+  private Mono<String> translate(String text, String translationType) {
+    String local = localTranslation.primary(text, translationType);
+    if (local != null) {
+      metrics.translatedLocally(translationType);
+      return Mono.just(local);
+    }
+
+    TranslationCache.Entry cached =
+        translationCache.get(
+            translationType, text, () -> requestTranslation(text, translationType).block());
+    if (cached != null) {
+      log.debug("Translation cache hit for {} (failed: {})", translationType, cached.failed());
+      if (cached.failed()) {
+        metrics.translationFallback(translationType, PokedexMetrics.FALLBACK_CACHED_FAILURE);
+        return Mono.just(fallback(text, translationType));
+      }
+      return Mono.just(cached.translated());
+    }
+
+    return coalesce(
+        translationFlights,
+        new TranslationRequest(translationType, text),
+        () -> callTranslationApi(text, translationType));
+  }
+
+  private Mono<String> callTranslationApi(String text, String translationType) {
+    // a concurrent flight for the same text may have completed since the first lookup
+    TranslationCache.Entry cached = translationCache.get(translationType, text);
+    if (cached != null) {
+      return Mono.just(cached.failed() ? fallback(text, translationType) : cached.translated());
+    }
+
+    log.debug("Translating {} chars to {}", text.length(), translationType);
+    return requestTranslation(text, translationType)
+        .doOnNext(
+            translated -> {
+              log.debug("Translation to {} succeeded", translationType);
+              translationCache.putSuccess(translationType, text, translated);
+            })
+        .switchIfEmpty(
+            Mono.fromSupplier(
+                () -> {
+                  log.warn("Translation response did not contain valid translated text");
+                  metrics.translationFallback(
+                      translationType, PokedexMetrics.FALLBACK_EMPTY_RESPONSE);
+                  translationCache.putFailure(translationType, text);
+                  return fallback(text, translationType);
+                }))
+        .onErrorResume(
+            UpstreamUnavailableException.class,
+            e -> {
+              log.debug("Skipping translation, using fallback: {}", e.getMessage());
+              metrics.translationFallback(translationType, e.getReason());
+              return Mono.just(fallback(text, translationType));
+            })
+        .onErrorResume(
+            e -> {
+              log.warn("Failed to translate text, using fallback. Error: {}", e.getMessage());
+              metrics.translationFallback(translationType, PokedexMetrics.FALLBACK_ERROR);
+              translationCache.putFailure(translationType, text);
+              return Mono.just(fallback(text, translationType));
+            });
+  }
+
+  /**
+   * @return the local translation when local translation is the fallback, else the original text
+   */
+  private String fallback(String text, String translationType) {
+    String local = localTranslation.fallback(text, translationType);
+    if (local == null) {
+      return text;
+    }
+    metrics.translatedLocally(translationType);
+    return local;
+  }
+
+  /** Completes with the translated text, or empty when the response carries none. */
+  private Mono<String> requestTranslation(String text, String translationType) {
+    Mono<Map<String, Object>> response =
+        translationWebClient
+            .post()
+            .uri(TRANSLATE_PATH, translationType)
+            .body(BodyInserters.fromFormData("text", text))
+            .retrieve()
+            .bodyToMono(TRANSLATION_RESPONSE);
+    return translationGuard
+        .call(metrics.recordUpstreamCall(PokedexMetrics.FUNTRANSLATIONS, response))
+        .mapNotNull(PokemonService::extractTranslatedText);
+  }
+
+  /**
+   * Shares one subscription to {@code call} among all subscribers for {@code key} while it runs.
+   * The flight leaves the map when it terminates, and only if it is still the one mapped there.
+   */
+  private static <K, V> Mono<V> coalesce(
+      ConcurrentMap<K, Mono<V>> flights, K key, Supplier<Mono<V>> call) {
+    Mono<V> existing = flights.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    AtomicReference<Mono<V>> self = new AtomicReference<>();
+    Mono<V> flight = Mono.defer(call).doFinally(signal -> flights.remove(key, self.get())).cache();
+    self.set(flight);
+    existing = flights.putIfAbsent(key, flight);
+    return existing != null ? existing : flight;
+  }
+
+  private record TranslationRequest(String translationType, String text) {}
+}
@@ -0,0 +1,274 @@
+package com.homechallenge.pokedex.translation;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_SHAKESPEARE;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_YODA;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Rule and dictionary based Yoda and Shakespeare translations, computed in process in a few
+ * microseconds. Both replace words and two-word phrases from a bundled dictionary, keeping the case
+ * of the original; Yoda also moves a short subject and its auxiliary verb to the end of each
+ * sentence ("It was created by a scientist." becomes "Created by a scientist, it was.").
+ *
+ * <p>Dictionaries are {@code phrase<TAB>replacement} lines, {@code #} starting a comment. They are
+ * read once and held as sorted arrays, searched without allocating a key per word.
+ */
+public final class DictionaryTranslator implements Translator {
+
+  static final String SHAKESPEARE_DICTIONARY = "translation/shakespeare.tsv";
+  static final String YODA_DICTIONARY = "translation/yoda.tsv";
+
+  private static final Set<String> AUXILIARIES =
+      Set.of(
+          "is", "was", "are", "were", "am", "has", "have", "had", "can", "could", "will", "would",
+          "shall", "should", "may", "might", "must");
+  // a longer subject than this is left in place, it rarely reads well moved
+  private static final int MAX_SUBJECT_WORDS = 3;
+
+  private final Dictionary shakespeare;
+  private final Dictionary yoda;
+
+  DictionaryTranslator(Dictionary shakespeare, Dictionary yoda) {
+    this.shakespeare = shakespeare;
+    this.yoda = yoda;
+  }
+
+  /** Reads the bundled dictionaries from the classpath. */
+  public static DictionaryTranslator load() throws IOException {
+    return new DictionaryTranslator(
+        Dictionary.read(SHAKESPEARE_DICTIONARY), Dictionary.read(YODA_DICTIONARY));
+  }
+
+  @Override
+  public String translate(String text, String translationType) {
+    return switch (translationType) {
+      case TRANSLATION_TYPE_SHAKESPEARE -> shakespeare.replace(text);
+      case TRANSLATION_TYPE_YODA -> invertSentences(yoda.replace(text));
+      default -> null;
+    };
+  }
+
+  private static String invertSentences(String text) {
+    StringBuilder out = new StringBuilder(text.length() + 8);
+    int sentenceStart = 0;
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if ((c == '.' || c == '!' || c == '?')
+          && (i + 1 == text.length() || Character.isWhitespace(text.charAt(i + 1)))) {
+        invertSentence(text, sentenceStart, i, out);
+        out.append(c);
+        sentenceStart = i + 1;
+      }
+    }
+    invertSentence(text, sentenceStart, text.length(), out);
+    return out.toString();
+  }
+
+  /** Appends {@code text[start, end)}, moving "subject auxiliary" behind the rest if it leads. */
+  private static void invertSentence(String text, int start, int end, StringBuilder out) {
+    int position = start;
+    while (position < end && Character.isWhitespace(text.charAt(position))) {
+      out.append(text.charAt(position++));
+    }
+    int subjectStart = position;
+
+    int words = 0;
+    while (words <= MAX_SUBJECT_WORDS) {
+      if (position >= end || !isWordChar(text.charAt(position))) {
+        break;
+      }
+      int wordEnd = wordEnd(text, position, end);
+      if (words > 0
+          && AUXILIARIES.contains(text.substring(position, wordEnd).toLowerCase(Locale.ROOT))) {
+        int restStart = wordEnd;
+        while (restStart < end && Character.isWhitespace(text.charAt(restStart))) {
+          restStart++;
+        }
+        int restEnd = end;
+        while (restEnd > restStart
+            && (text.charAt(restEnd - 1) == ',' || text.charAt(restEnd - 1) == ' ')) {
+          restEnd--;
+        }
+        if (restStart == restEnd || restStart == wordEnd) {
+          break;
+        }
+        appendCapitalized(text, restStart, restEnd, out);
+        out.append(", ");
+        appendDecapitalized(text, subjectStart, wordEnd, out);
+        return;
+      }
+      words++;
+      position = wordEnd;
+      if (position < end && text.charAt(position) == ' ') {
+        position++;
+      }
+    }
+    out.append(text, subjectStart, end);
+  }
+
+  private static void appendCapitalized(String text, int start, int end, StringBuilder out) {
+    out.append(Character.toUpperCase(text.charAt(start))).append(text, start + 1, end);
+  }
+
+  /** Lower-cases the first letter, unless the first word is "I" or has other capitals. */
+  private static void appendDecapitalized(String text, int start, int end, StringBuilder out) {
+    int firstWordEnd = wordEnd(text, start, end);
+    boolean properNoun = firstWordEnd - start == 1 && text.charAt(start) == 'I';
+    for (int i = start + 1; i < firstWordEnd && !properNoun; i++) {
+      properNoun = Character.isUpperCase(text.charAt(i));
+    }
+    out.append(properNoun ? text.charAt(start) : Character.toLowerCase(text.charAt(start)))
+        .append(text, start + 1, end);
+  }
+
+  private static boolean isWordChar(char c) {
+    return Character.isLetter(c) || c == '\'';
+  }
+
+  private static int wordEnd(String text, int start, int end) {
+    int position = start;
+    while (position < end && isWordChar(text.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  /** Phrases of one or two words and their replacements, sorted for binary search. */
+  static final class Dictionary {
+    // lower case, in String order
+    private final String[] phrases;
+    private final String[] replacements;
+
+    Dictionary(Map<String, String> entries) {
+      TreeMap<String, String> sorted = new TreeMap<>();
+      entries.forEach((phrase, replacement) -> sorted.put(lowerCase(phrase), replacement));
+      this.phrases = sorted.keySet().toArray(String[]::new);
+      this.replacements = sorted.values().toArray(String[]::new);
+    }
+
+    static Dictionary read(String resource) throws IOException {
+      Map<String, String> entries = new HashMap<>();
+      try (InputStream in =
+          DictionaryTranslator.class.getClassLoader().getResourceAsStream(resource)) {
+        if (in == null) {
+          throw new IOException("Missing translation dictionary " + resource);
+        }
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+          int tab = line.indexOf('\t');
+          if (line.isBlank() || line.startsWith("#") || tab <= 0) {
+            continue;
+          }
+          entries.put(line.substring(0, tab).strip(), line.substring(tab + 1).strip());
+        }
+      }
+      return new Dictionary(entries);
+    }
+
+    int size() {
+      return phrases.length;
+    }
+
+    /** Replaces every dictionary phrase in {@code text}, two-word phrases first. */
+    String replace(String text) {
+      StringBuilder out = null;
+      int copied = 0;
+      int position = 0;
+      int length = text.length();
+      while (position < length) {
+        if (!isWordChar(text.charAt(position))) {
+          position++;
+          continue;
+        }
+        int wordEnd = wordEnd(text, position, length);
+        int phraseEnd = wordEnd;
+        int match = -1;
+        if (wordEnd + 1 < length
+            && text.charAt(wordEnd) == ' '
+            && isWordChar(text.charAt(wordEnd + 1))) {
+          phraseEnd = wordEnd(text, wordEnd + 1, length);
+          match = find(text, position, phraseEnd);
+        }
+        if (match < 0) {
+          phraseEnd = wordEnd;
+          match = find(text, position, wordEnd);
+        }
+        if (match >= 0) {
+          if (out == null) {
+            out = new StringBuilder(length + 16);
+          }
+          out.append(text, copied, position);
+          appendInCase(replacements[match], text, position, phraseEnd, out);
+          copied = phraseEnd;
+        }
+        position = phraseEnd;
+      }
+      return out == null ? text : out.append(text, copied, length).toString();
+    }
+
+    /**
+     * @return the index of {@code text[start, end)}, compared case-insensitively, or -1
+     */
+    private int find(String text, int start, int end) {
+      int low = 0;
+      int high = phrases.length - 1;
+      while (low <= high) {
+        int middle = (low + high) >>> 1;
+        int comparison = compare(phrases[middle], text, start, end);
+        if (comparison < 0) {
+          low = middle + 1;
+        } else if (comparison > 0) {
+          high = middle - 1;
+        } else {
+          return middle;
+        }
+      }
+      return -1;
+    }
+
+    private static int compare(String phrase, String text, int start, int end) {
+      int length = end - start;
+      int common = Math.min(phrase.length(), length);
+      for (int i = 0; i < common; i++) {
+        int difference = phrase.charAt(i) - Character.toLowerCase(text.charAt(start + i));
+        if (difference != 0) {
+          return difference;
+        }
+      }
+      return phrase.length() - length;
+    }
+
+    /** Appends the replacement upper-cased like the original: all capitals, initial or none. */
+    private static void appendInCase(
+        String replacement, String text, int start, int end, StringBuilder out) {
+      if (!Character.isUpperCase(text.charAt(start)) || replacement.isEmpty()) {
+        out.append(replacement);
+      } else if (end - start > 1 && Character.isUpperCase(text.charAt(start + 1))) {
+        out.append(replacement.toUpperCase(Locale.ROOT));
+      } else {
+        out.append(Character.toUpperCase(replacement.charAt(0)))
+            .append(replacement, 1, replacement.length());
+      }
+    }
+
+    private static String lowerCase(String phrase) {
+      char[] chars = phrase.toCharArray();
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = Character.toLowerCase(chars[i]);
+      }
+      return new String(chars);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package com.homechallenge.pokedex.translation;
+
+/**
+ * Where an in-process {@link Translator} sits relative to the FunTranslations API: in front of it,
+ * behind it for the lookups it does not answer, or not at all.
+ */
+public final class LocalTranslation {
+
+  /** Never translates locally; every translation goes to FunTranslations. */
+  public static final LocalTranslation DISABLED =
+      new LocalTranslation(Translator.NONE, Mode.DISABLED);
+
+  public enum Mode {
+    /** Translate locally and never call FunTranslations. */
+    PRIMARY,
+    /** Translate locally when FunTranslations fails, is rate limited or its circuit is open. */
+    FALLBACK,
+    DISABLED
+  }
+
+  private final Translator translator;
+  private final Mode mode;
+
+  public LocalTranslation(Translator translator, Mode mode) {
+    this.translator = translator;
+    this.mode = mode;
+  }
+
+  public boolean isPrimary() {
+    return mode == Mode.PRIMARY;
+  }
+
+  /**
+   * @return the local translation to serve instead of calling FunTranslations, or null
+   */
+  public String primary(String text, String translationType) {
+    return mode == Mode.PRIMARY ? translator.translate(text, translationType) : null;
+  }
+
+  /**
+   * @return the local translation to serve when FunTranslations gave none, or null
+   */
+  public String fallback(String text, String translationType) {
+    return mode == Mode.FALLBACK ? translator.translate(text, translationType) : null;
+  }
+}
@@ -0,0 +1,16 @@
+package com.homechallenge.pokedex.translation;
+
+/** Translates a description into one of the FunTranslations translation types. */
+@FunctionalInterface
+public interface Translator {
+
+  /** Translates nothing. */
+  Translator NONE = (text, translationType) -> null;
+
+  /**
+   * @param translationType {@code yoda} or {@code shakespeare}, as chosen by {@code
+   *     determineTranslationType}
+   * @return the translated text, or null when this translator does not support the type
+   */
+  String translate(String text, String translationType);
+}
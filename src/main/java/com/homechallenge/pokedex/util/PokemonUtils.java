@@ -8,4 +8,9 @@ public class PokemonUtils {
   public static final String HABITAT_CAVE = "cave";
 
   private PokemonUtils() {}
+
+  /** Replaces the line and form feeds PokeAPI embeds in flavor texts with plain spaces. */
+  public static String cleanFlavorText(String flavorText) {
+    return flavorText.replace('\n', ' ').replace('\f', ' ');
+  }
 }
@@ -0,0 +1,92 @@
+package com.homechallenge.pokedex.cache;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class BackgroundRefresherTest {
+  private List<Runnable> queued;
+  private Executor queueingExecutor;
+
+  @BeforeMethod
+  public void setUp() {
+    queued = new ArrayList<>();
+    queueingExecutor = queued::add;
+  }
+
+  @Test
+  public void testRefresh_StoresLoadedValue() {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("test", Runnable::run, 2);
+    AtomicReference<String> stored = new AtomicReference<>();
+
+    // When
+    boolean started = refresher.refresh("pikachu", () -> "fresh", stored::set);
+
+    // Then
+    assertTrue(started);
+    assertEquals(stored.get(), "fresh");
+    assertEquals(refresher.successes(), 1);
+    assertEquals(refresher.active(), 0);
+  }
+
+  @Test
+  public void testRefresh_OnlyOnePerKeyInFlight() {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("test", queueingExecutor, 2);
+
+    // When
+    boolean first = refresher.refresh("pikachu", () -> "fresh", value -> {});
+    boolean second = refresher.refresh("pikachu", () -> "fresh", value -> {});
+
+    // Then
+    assertTrue(first);
+    assertFalse(second);
+    assertEquals(queued.size(), 1);
+    assertEquals(refresher.active(), 1);
+    assertEquals(refresher.rejections(), 0);
+  }
+
+  @Test
+  public void testRefresh_RejectedBeyondConcurrencyCap() {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("test", queueingExecutor, 1);
+    refresher.refresh("pikachu", () -> "fresh", value -> {});
+
+    // When
+    boolean started = refresher.refresh("mewtwo", () -> "fresh", value -> {});
+    queued.remove(0).run();
+    boolean startedAfterRelease = refresher.refresh("mewtwo", () -> "fresh", value -> {});
+
+    // Then
+    assertFalse(started);
+    assertTrue(startedAfterRelease);
+    assertEquals(refresher.rejections(), 1);
+  }
+
+  @Test
+  public void testRefresh_FailedLoadKeepsStaleValueAndReleasesKey() {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("test", Runnable::run, 1);
+    AtomicReference<String> stored = new AtomicReference<>("stale");
+
+    // When
+    refresher.refresh(
+        "pikachu",
+        () -> {
+          throw new IllegalStateException("PokeAPI is down");
+        },
+        stored::set);
+    refresher.refresh("pikachu", () -> null, stored::set);
+
+    // Then
+    assertEquals(stored.get(), "stale");
+    assertEquals(refresher.failures(), 2);
+    assertEquals(refresher.active(), 0);
+  }
+}
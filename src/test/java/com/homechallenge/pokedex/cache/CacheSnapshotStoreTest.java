@@ -0,0 +1,157 @@
+package com.homechallenge.pokedex.cache;
+
+import static org.testng.Assert.*;
+
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CacheSnapshotStoreTest {
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+  // header: magic (4) + version (2) + written at (8); record: kind (1) + length (4) + payload
+  private static final int FIRST_PAYLOAD_OFFSET = 14 + 1 + 4;
+
+  private Path directory;
+  private Path snapshot;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("cache-snapshot");
+    snapshot = directory.resolve("snapshot.bin");
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    try (var files = Files.walk(directory)) {
+      files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testSaveAndLoad_RestoresPokemonAndTranslations() throws IOException {
+    // Given
+    PokemonCache pokemonCache = pokemonCache();
+    TranslationCache translationCache = translationCache();
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric mouse.", "forest", false);
+    PokemonDTO mewtwo = new PokemonDTO(150L, "mewtwo", "Created by a scientist.", null, true);
+    pokemonCache.put("PIKACHU", pikachu);
+    pokemonCache.put("mewtwo", mewtwo);
+    translationCache.putSuccess("yoda", "Created by a scientist.", "By a scientist, created.");
+    translationCache.putFailure("shakespeare", "Electric mouse.");
+    store(pokemonCache, translationCache, NOW).save();
+
+    // When
+    PokemonCache restoredPokemon = pokemonCache();
+    TranslationCache restoredTranslations = translationCache();
+    CacheSnapshotStore.Result result =
+        store(restoredPokemon, restoredTranslations, NOW.plusSeconds(60)).load();
+
+    // Then
+    assertEquals(result, new CacheSnapshotStore.Result(2, 1, 0));
+    assertEquals(restoredPokemon.get("pikachu"), pikachu);
+    assertEquals(restoredPokemon.get("25"), pikachu);
+    assertEquals(restoredPokemon.get("150"), mewtwo);
+    assertEquals(
+        restoredTranslations.get("yoda", "Created by a scientist.").translated(),
+        "By a scientist, created.");
+    assertNull(restoredTranslations.get("shakespeare", "Electric mouse."));
+  }
+
+  @Test
+  public void testLoad_SkipsEntriesThatExpiredSinceTheSnapshot() throws IOException {
+    // Given
+    PokemonCache pokemonCache = pokemonCache();
+    pokemonCache.put("pikachu", new PokemonDTO(25L, "pikachu", "Electric mouse.", "forest", false));
+    store(pokemonCache, translationCache(), NOW).save();
+
+    // When
+    PokemonCache restored = pokemonCache();
+    CacheSnapshotStore.Result result =
+        store(restored, translationCache(), NOW.plus(Duration.ofHours(2))).load();
+
+    // Then
+    assertEquals(result, new CacheSnapshotStore.Result(0, 0, 0));
+    assertNull(restored.get("pikachu"));
+  }
+
+  @Test
+  public void testLoad_SkipsRecordWithBadChecksum() throws IOException {
+    // Given
+    PokemonCache pokemonCache = pokemonCache();
+    pokemonCache.put("pikachu", new PokemonDTO(25L, "pikachu", "Electric mouse.", "forest", false));
+    TranslationCache translationCache = translationCache();
+    translationCache.putSuccess("yoda", "text", "translated");
+    store(pokemonCache, translationCache, NOW).save();
+    byte[] bytes = Files.readAllBytes(snapshot);
+    bytes[FIRST_PAYLOAD_OFFSET + 12] ^= 0x5A;
+    Files.write(snapshot, bytes);
+
+    // When
+    PokemonCache restoredPokemon = pokemonCache();
+    TranslationCache restoredTranslations = translationCache();
+    CacheSnapshotStore.Result result = store(restoredPokemon, restoredTranslations, NOW).load();
+
+    // Then
+    assertEquals(result, new CacheSnapshotStore.Result(0, 1, 1));
+    assertNull(restoredPokemon.get("pikachu"));
+    assertEquals(restoredTranslations.get("yoda", "text").translated(), "translated");
+  }
+
+  @Test
+  public void testLoad_KeepsRecordsBeforeTruncatedTail() throws IOException {
+    // Given
+    PokemonCache pokemonCache = pokemonCache();
+    pokemonCache.put("pikachu", new PokemonDTO(25L, "pikachu", "Electric mouse.", "forest", false));
+    TranslationCache translationCache = translationCache();
+    translationCache.putSuccess("yoda", "text", "translated");
+    store(pokemonCache, translationCache, NOW).save();
+    byte[] bytes = Files.readAllBytes(snapshot);
+    Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 6));
+
+    // When
+    PokemonCache restoredPokemon = pokemonCache();
+    CacheSnapshotStore.Result result = store(restoredPokemon, translationCache(), NOW).load();
+
+    // Then
+    assertEquals(result, new CacheSnapshotStore.Result(1, 0, 1));
+    assertNotNull(restoredPokemon.get("pikachu"));
+  }
+
+  @Test
+  public void testLoad_IgnoresMissingOrForeignFile() throws IOException {
+    // Given
+    PokemonCache pokemonCache = pokemonCache();
+
+    // When
+    CacheSnapshotStore.Result missing = store(pokemonCache, translationCache(), NOW).load();
+    Files.writeString(snapshot, "not a snapshot at all");
+    CacheSnapshotStore.Result foreign = store(pokemonCache, translationCache(), NOW).load();
+
+    // Then
+    assertEquals(missing, new CacheSnapshotStore.Result(0, 0, 0));
+    assertEquals(foreign, new CacheSnapshotStore.Result(0, 0, 0));
+  }
+
+  private CacheSnapshotStore store(
+      PokemonCache pokemonCache, TranslationCache translationCache, Instant now) {
+    return new CacheSnapshotStore(
+        snapshot, pokemonCache, translationCache, Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  private static PokemonCache pokemonCache() {
+    return new PokemonCache(100, Duration.ofHours(1));
+  }
+
+  private static TranslationCache translationCache() {
+    return new TranslationCache(100, Duration.ofHours(1), Duration.ofMinutes(1));
+  }
+}
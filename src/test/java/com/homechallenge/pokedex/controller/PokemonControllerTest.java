@@ -1,25 +1,57 @@
 package com.homechallenge.pokedex.controller;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.testng.Assert.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.cache.SerializedResponseCache;
+import com.homechallenge.pokedex.dto.PokemonBatchError;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
 import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSearchResponse;
 import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import com.homechallenge.pokedex.service.PokemonBatchService;
+import com.homechallenge.pokedex.service.PokemonSearchService;
 import com.homechallenge.pokedex.service.PokemonService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 public class PokemonControllerTest {
 
   private PokemonService pokemonService;
+  private PokemonBatchService pokemonBatchService;
+  private PokemonSearchService pokemonSearchService;
   private PokemonController pokemonController;
 
   @BeforeMethod
   public void setUp() {
     pokemonService = mock(PokemonService.class);
-    pokemonController = new PokemonController(pokemonService);
+    pokemonBatchService = mock(PokemonBatchService.class);
+    pokemonSearchService = mock(PokemonSearchService.class);
+    pokemonController =
+        new PokemonController(
+            pokemonService,
+            pokemonBatchService,
+            pokemonSearchService,
+            new PokemonResponseCaching(
+                Duration.ofDays(1), Duration.ofHours(1), SerializedResponseCache.DISABLED),
+            RequestStatistics.NONE);
   }
 
   @Test
@@ -37,14 +69,14 @@ public class PokemonControllerTest {
     when(pokemonService.getPokemonByName(pokemonName)).thenReturn(expectedDto);
 
     // When
-    ResponseEntity<PokemonDTO> response = pokemonController.getPokemon(pokemonName);
+    ResponseEntity<?> response = pokemonController.getPokemon(pokemonName, null);
 
     // Then
     assertNotNull(response);
     assertEquals(response.getStatusCode(), HttpStatus.OK);
-    assertEquals(response.getBody(), expectedDto);
-    assertEquals(response.getBody().getName(), "mewtwo");
-    assertTrue(response.getBody().isLegendary());
+    assertEquals(body(response), expectedDto);
+    assertEquals(body(response).name(), "mewtwo");
+    assertTrue(body(response).legendary());
 
     verify(pokemonService, times(1)).getPokemonByName(pokemonName);
   }
@@ -64,13 +96,13 @@ public class PokemonControllerTest {
     when(pokemonService.getPokemonByName(pokemonName)).thenReturn(expectedDto);
 
     // When
-    ResponseEntity<PokemonDTO> response = pokemonController.getPokemon(pokemonName);
+    ResponseEntity<?> response = pokemonController.getPokemon(pokemonName, null);
 
     // Then
     assertNotNull(response);
     assertEquals(response.getStatusCode(), HttpStatus.OK);
-    assertEquals(response.getBody().getName(), "pikachu");
-    assertFalse(response.getBody().isLegendary());
+    assertEquals(body(response).name(), "pikachu");
+    assertFalse(body(response).legendary());
 
     verify(pokemonService, times(1)).getPokemonByName(pokemonName);
   }
@@ -85,7 +117,7 @@ public class PokemonControllerTest {
         .thenThrow(new PokemonNotFoundException(pokemonName));
 
     // When
-    pokemonController.getPokemon(pokemonName);
+    pokemonController.getPokemon(pokemonName, null);
 
     // Then
   }
@@ -105,14 +137,14 @@ public class PokemonControllerTest {
     when(pokemonService.getTranslatedPokemonByName(pokemonName)).thenReturn(expectedDto);
 
     // When
-    ResponseEntity<PokemonDTO> response = pokemonController.getTranslatedPokemon(pokemonName);
+    ResponseEntity<?> response = pokemonController.getTranslatedPokemon(pokemonName, null);
 
     // Then
     assertNotNull(response);
     assertEquals(response.getStatusCode(), HttpStatus.OK);
-    assertEquals(response.getBody(), expectedDto);
-    assertEquals(response.getBody().getName(), "mewtwo");
-    assertTrue(response.getBody().isLegendary());
+    assertEquals(body(response), expectedDto);
+    assertEquals(body(response).name(), "mewtwo");
+    assertTrue(body(response).legendary());
 
     verify(pokemonService, times(1)).getTranslatedPokemonByName(pokemonName);
   }
@@ -132,13 +164,13 @@ public class PokemonControllerTest {
     when(pokemonService.getTranslatedPokemonByName(pokemonName)).thenReturn(expectedDto);
 
     // When
-    ResponseEntity<PokemonDTO> response = pokemonController.getTranslatedPokemon(pokemonName);
+    ResponseEntity<?> response = pokemonController.getTranslatedPokemon(pokemonName, null);
 
     // Then
     assertNotNull(response);
     assertEquals(response.getStatusCode(), HttpStatus.OK);
-    assertEquals(response.getBody().getName(), "pikachu");
-    assertFalse(response.getBody().isLegendary());
+    assertEquals(body(response).name(), "pikachu");
+    assertFalse(body(response).legendary());
 
     verify(pokemonService, times(1)).getTranslatedPokemonByName(pokemonName);
   }
@@ -153,8 +185,164 @@ public class PokemonControllerTest {
         .thenThrow(new PokemonNotFoundException(pokemonName));
 
     // When
-    pokemonController.getTranslatedPokemon(pokemonName);
+    pokemonController.getTranslatedPokemon(pokemonName, null);
 
     // Then
   }
+
+  @Test
+  public void testGetPokemonBatch_PartialFailure() {
+    // Given
+    PokemonBatchRequest request = new PokemonBatchRequest(List.of("pikachu", "nonexistent"), false);
+    PokemonDTO pikachu =
+        new PokemonDTO(
+            25L,
+            "pikachu",
+            "When several of these Pokémon gather, their electricity could build and cause lightning storms.",
+            "forest",
+            false);
+    PokemonBatchResponse expected =
+        new PokemonBatchResponse(
+            List.of(pikachu),
+            List.of(new PokemonBatchError("nonexistent", 404, "Pokemon not found: nonexistent")));
+
+    when(pokemonBatchService.getPokemonBatch(request)).thenReturn(expected);
+
+    // When
+    ResponseEntity<PokemonBatchResponse> response = pokemonController.getPokemonBatch(request);
+
+    // Then
+    assertNotNull(response);
+    assertEquals(response.getStatusCode(), HttpStatus.OK);
+    assertEquals(response.getBody(), expected);
+
+    verify(pokemonBatchService, times(1)).getPokemonBatch(request);
+  }
+
+  @Test
+  public void testGetPokemon_CachingHeaders() {
+    // Given
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric.", "forest", false);
+    PokemonDTO translated = new PokemonDTO(25L, "pikachu", "Electric, it is.", "forest", false);
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(pikachu);
+    when(pokemonService.getTranslatedPokemonByName("pikachu")).thenReturn(translated);
+
+    // When
+    ResponseEntity<?> plain = pokemonController.getPokemon("pikachu", null);
+    ResponseEntity<?> again = pokemonController.getPokemon("pikachu", null);
+    ResponseEntity<?> fun = pokemonController.getTranslatedPokemon("pikachu", null);
+
+    // Then
+    assertEquals(plain.getHeaders().getCacheControl(), "max-age=86400, public");
+    assertEquals(fun.getHeaders().getCacheControl(), "max-age=3600, public");
+    assertTrue(plain.getHeaders().getETag().matches("\"[0-9a-f]+\""));
+    assertEquals(again.getHeaders().getETag(), plain.getHeaders().getETag());
+    assertNotEquals(fun.getHeaders().getETag(), plain.getHeaders().getETag());
+  }
+
+  @Test
+  public void testGetPokemon_MatchingIfNoneMatchIsNotModified() throws Exception {
+    // Given
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric.", "forest", false);
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(pikachu);
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pokemonController).build();
+    String etag =
+        mockMvc
+            .perform(get("/pokemon/pikachu"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    // When
+    MvcResult result =
+        mockMvc
+            .perform(get("/pokemon/pikachu").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andReturn();
+
+    // Then
+    assertEquals(result.getResponse().getStatus(), HttpStatus.NOT_MODIFIED.value());
+    assertEquals(result.getResponse().getContentLength(), 0);
+    assertEquals(result.getResponse().getHeader(HttpHeaders.ETAG), etag);
+  }
+
+  @Test
+  public void testGetPokemon_SerializedResponseCache() throws Exception {
+    // Given
+    ObjectMapper objectMapper = new ObjectMapper();
+    PokemonController cached =
+        new PokemonController(
+            pokemonService,
+            pokemonBatchService,
+            pokemonSearchService,
+            new PokemonResponseCaching(
+                Duration.ofDays(1),
+                Duration.ofHours(1),
+                new SerializedResponseCache(100, objectMapper)),
+            RequestStatistics.NONE);
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(cached).build();
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric.", "forest", false);
+    PokemonDTO refreshed = new PokemonDTO(25L, "pikachu", "Shocking.", "forest", false);
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(pikachu);
+
+    // When
+    MockHttpServletResponse plain =
+        mockMvc.perform(get("/pokemon/pikachu")).andReturn().getResponse();
+    MockHttpServletResponse gzipped =
+        mockMvc
+            .perform(get("/pokemon/pikachu").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andReturn()
+            .getResponse();
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(refreshed);
+    MockHttpServletResponse afterRefresh =
+        mockMvc.perform(get("/pokemon/pikachu")).andReturn().getResponse();
+
+    // Then
+    assertEquals(plain.getContentAsByteArray(), objectMapper.writeValueAsBytes(pikachu));
+    assertEquals(plain.getHeader(HttpHeaders.VARY), HttpHeaders.ACCEPT_ENCODING);
+    assertEquals(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING), "gzip");
+    assertEquals(gunzip(gzipped.getContentAsByteArray()), plain.getContentAsByteArray());
+    assertNotEquals(gzipped.getHeader(HttpHeaders.ETAG), plain.getHeader(HttpHeaders.ETAG));
+    assertEquals(afterRefresh.getContentAsByteArray(), objectMapper.writeValueAsBytes(refreshed));
+    assertNotEquals(afterRefresh.getHeader(HttpHeaders.ETAG), plain.getHeader(HttpHeaders.ETAG));
+  }
+
+  @Test
+  public void testSearchPokemon_IsNotTakenForAName() throws Exception {
+    // Given
+    MockMvc mockMvc = MockMvcBuilders.standaloneSetup(pokemonController).build();
+    when(pokemonSearchService.search("pika", 10))
+        .thenReturn(new PokemonSearchResponse("pika", List.of("pikachu", "pikipek")));
+
+    // When
+    MockHttpServletResponse response =
+        mockMvc.perform(get("/pokemon/search").param("q", "pika")).andReturn().getResponse();
+
+    // Then
+    assertEquals(response.getStatus(), HttpStatus.OK.value());
+    assertEquals(
+        response.getContentAsString(),
+        "{\"query\":\"pika\",\"suggestions\":[\"pikachu\",\"pikipek\"]}");
+    verify(pokemonService, never()).getPokemonByName(any());
+  }
+
+  @Test
+  public void testAcceptsGzip() {
+    assertTrue(PokemonResponseCaching.acceptsGzip("gzip, deflate, br"));
+    assertTrue(PokemonResponseCaching.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+    assertTrue(PokemonResponseCaching.acceptsGzip("*"));
+    assertFalse(PokemonResponseCaching.acceptsGzip("gzip;q=0, identity"));
+    assertFalse(PokemonResponseCaching.acceptsGzip("identity"));
+    assertFalse(PokemonResponseCaching.acceptsGzip(null));
+  }
+
+  private static byte[] gunzip(byte[] compressed) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return in.readAllBytes();
+    }
+  }
+
+  private static PokemonDTO body(ResponseEntity<?> response) {
+    return (PokemonDTO) response.getBody();
+  }
 }
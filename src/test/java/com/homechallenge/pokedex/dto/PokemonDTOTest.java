@@ -0,0 +1,43 @@
+package com.homechallenge.pokedex.dto;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+public class PokemonDTOTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void testSerialize_KeepsJsonContract() throws Exception {
+    // Given
+    PokemonDTO mewtwo = new PokemonDTO(150, "mewtwo", "It was created.", "rare", true);
+
+    // When
+    String json = objectMapper.writeValueAsString(mewtwo);
+
+    // Then
+    assertEquals(
+        json,
+        "{\"id\":150,\"name\":\"mewtwo\",\"description\":\"It was created.\","
+            + "\"habitat\":\"rare\",\"legendary\":true}");
+    assertEquals(objectMapper.readValue(json, PokemonDTO.class), mewtwo);
+  }
+
+  @Test
+  public void testWithDescription_DerivesCopyAndSharesHabitat() {
+    // Given
+    PokemonDTO pikachu =
+        new PokemonDTO(25, "pikachu", "Electric.", new String("forest".toCharArray()), false);
+
+    // When
+    PokemonDTO translated = pikachu.withDescription("Electric, it is.");
+
+    // Then
+    assertEquals(pikachu.description(), "Electric.");
+    assertEquals(translated, new PokemonDTO(25, "pikachu", "Electric, it is.", "forest", false));
+    assertSame(pikachu.habitat(), "forest");
+    assertSame(translated.habitat(), pikachu.habitat());
+  }
+}
@@ -0,0 +1,73 @@
+package com.homechallenge.pokedex.dto;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.annotations.Test;
+
+public class PokemonSpeciesResponseDeserializerTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void testDeserialize_ReadsOnlyRequiredFields() throws Exception {
+    // Given
+    String json =
+        """
+        {
+          "base_happiness": 0,
+          "names": [{"language": {"name": "ja"}, "name": "ミュウツー"}],
+          "flavor_text_entries": [
+            {"flavor_text": "遺伝子操作によって", "language": {"name": "ja", "url": "u"}},
+            {"flavor_text": "It was created by\\na scientist.", "language": {"name": "en"},
+             "version": {"name": "red"}},
+            {"flavor_text": "A second English entry.", "language": {"name": "en"}}
+          ],
+          "habitat": {"name": "rare", "url": "https://pokeapi.co/api/v2/pokemon-habitat/5/"},
+          "id": 150,
+          "is_legendary": true,
+          "name": "mewtwo",
+          "varieties": [{"is_default": true, "pokemon": {"name": "mewtwo"}}]
+        }
+        """;
+
+    // When
+    PokemonSpeciesResponse result = objectMapper.readValue(json, PokemonSpeciesResponse.class);
+
+    // Then
+    assertEquals(
+        result,
+        new PokemonSpeciesResponse(
+            150L, "mewtwo", true, "rare", "It was created by\na scientist."));
+  }
+
+  @Test
+  public void testDeserialize_NullHabitatAndNoEnglishText() throws Exception {
+    // Given
+    String json =
+        """
+        {
+          "id": 999,
+          "name": "japanese-only",
+          "habitat": null,
+          "flavor_text_entries": [null, {"language": null}, {"flavor_text": "テキスト",
+            "language": {"name": "ja"}}]
+        }
+        """;
+
+    // When
+    PokemonSpeciesResponse result = objectMapper.readValue(json, PokemonSpeciesResponse.class);
+
+    // Then
+    assertEquals(result, new PokemonSpeciesResponse(999L, "japanese-only", false, null, null));
+  }
+
+  @Test
+  public void testDeserialize_EmptyObject() throws Exception {
+    // When
+    PokemonSpeciesResponse result = objectMapper.readValue("{}", PokemonSpeciesResponse.class);
+
+    // Then
+    assertTrue(result.isEmpty());
+  }
+}
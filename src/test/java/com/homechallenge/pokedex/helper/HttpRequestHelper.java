@@ -4,17 +4,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClient;
 
 /** Helper class for setting up HTTP request mocks in tests */
-@Component
 @Slf4j
 public class HttpRequestHelper {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
   private final RestClient restClient;
   private final RestClient.RequestHeadersUriSpec<?> getSpec;
   private final RestClient.ResponseSpec getResponseSpec;
@@ -48,11 +50,18 @@ public class HttpRequestHelper {
     this.getResponseSpec = null;
   }
 
+  /**
+   * Mocks a pokemon-species GET. The raw payload map goes through the real streaming decoder, as it
+   * would when RestClient reads the response body.
+   */
   public void mockGetRequestMap(String uriTemplate, Object uriVar, Map<String, Object> response) {
     doReturn(getSpec).when(restClient).get();
     doReturn(getSpec).when(getSpec).uri(eq(uriTemplate), eq(uriVar));
     doReturn(getResponseSpec).when(getSpec).retrieve();
-    doReturn(response).when(getResponseSpec).body(eq(Map.class));
+    doReturn(getResponseSpec).when(getResponseSpec).onStatus(any(), any());
+    doReturn(OBJECT_MAPPER.convertValue(response, PokemonSpeciesResponse.class))
+        .when(getResponseSpec)
+        .body(eq(PokemonSpeciesResponse.class));
   }
 
   public void mockPostRequestMap(String uriTemplate, String pathVar, Map<String, Object> response) {
@@ -0,0 +1,113 @@
+package com.homechallenge.pokedex.index;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.cleanFlavorText;
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.testng.annotations.Test;
+
+public class SpeciesDumpLoaderTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SpeciesDumpLoader loader = new SpeciesDumpLoader(objectMapper);
+
+  @Test
+  public void testLoad_CsvExport() throws Exception {
+    // Given
+    Path dump = resource("dump/csv");
+
+    // When
+    SpeciesIndex index = loader.load(dump);
+
+    // Then
+    assertEquals(index.size(), 4);
+    assertEquals(
+        index.find("pikachu"),
+        new PokemonDTO(
+            25L,
+            "pikachu",
+            "When several of these POKéMON gather, their electricity could build and cause lightning storms.",
+            "forest",
+            false));
+    assertEquals(
+        index.find("150").description(),
+        cleanFlavorText(
+            "It was created by\na scientist after\nyears of horrific\fgene splicing and\nDNA engineering\nexperiments."));
+    assertTrue(index.find("MewTwo").legendary());
+    assertEquals(
+        index.find("zubat").description(),
+        "Forms colonies in perpetually dark places. Uses \"ultrasonic\" waves, to identify and approach targets.");
+    assertEquals(index.find("41").habitat(), "cave");
+    assertNull(index.find("sprigatito").habitat());
+    assertEquals(index.find("906").description(), "");
+    assertNull(index.find("missingno"));
+    assertNull(index.find("9999"));
+  }
+
+  @Test
+  public void testLoad_JsonExportMatchesLiveMapping() throws Exception {
+    // Given
+    Path dump = Files.createTempDirectory("species-dump");
+    copySpecies(dump, "25", "payloads/pokemon-species/pikachu.json");
+    copySpecies(dump, "150", "payloads/pokemon-species/mewtwo.json");
+    PokemonSpeciesResponse mewtwo = decode("payloads/pokemon-species/mewtwo.json");
+
+    // When
+    SpeciesIndex index = loader.load(dump);
+
+    // Then
+    assertEquals(index.size(), 2);
+    assertEquals(
+        index.find(mewtwo.name()),
+        new PokemonDTO(
+            mewtwo.id(),
+            mewtwo.name(),
+            cleanFlavorText(mewtwo.englishFlavorText()),
+            mewtwo.habitat(),
+            mewtwo.isLegendary()));
+    assertNotNull(index.find("25"));
+  }
+
+  @Test(expectedExceptions = IOException.class)
+  public void testLoad_DirectoryWithoutDump() throws IOException {
+    // When
+    loader.load(Files.createTempDirectory("empty-dump"));
+
+    // Then - Exception is expected
+  }
+
+  @Test
+  public void testEstimatedBytes_GrowsWithTheIndex() throws Exception {
+    // Given
+    SpeciesIndex index = loader.load(resource("dump/csv"));
+
+    // When
+    long bytes = index.estimatedBytes();
+
+    // Then
+    assertTrue(bytes > SpeciesIndex.EMPTY.estimatedBytes());
+    assertTrue(bytes < 4 * 1024, "four species should fit in a few KB, was " + bytes);
+  }
+
+  private Path resource(String name) throws URISyntaxException {
+    return Path.of(Objects.requireNonNull(getClass().getClassLoader().getResource(name)).toURI());
+  }
+
+  private void copySpecies(Path dump, String id, String payload) throws Exception {
+    Path directory = Files.createDirectories(dump.resolve("pokemon-species").resolve(id));
+    Files.copy(resource(payload), directory.resolve("index.json"));
+  }
+
+  private PokemonSpeciesResponse decode(String payload) throws Exception {
+    try (InputStream in = Files.newInputStream(resource(payload))) {
+      return objectMapper.readValue(in, PokemonSpeciesResponse.class);
+    }
+  }
+}
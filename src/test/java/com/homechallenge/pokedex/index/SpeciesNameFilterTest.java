@@ -0,0 +1,64 @@
+package com.homechallenge.pokedex.index;
+
+import static org.testng.Assert.*;
+
+import java.io.IOException;
+import java.util.List;
+import org.testng.annotations.Test;
+
+public class SpeciesNameFilterTest {
+
+  @Test
+  public void testMightExist_BundledNamesPassAndUnknownNamesAreMostlyRejected() throws IOException {
+    // Given
+    List<String> names = BundledSpeciesNames.load();
+    SpeciesNameFilter filter = SpeciesNameFilter.create(2000, 0.01, 0);
+    names.forEach(filter::add);
+
+    // When
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightExist("unknown-" + i)) {
+        falsePositives++;
+      }
+    }
+
+    // Then
+    assertEquals(names.size(), 1025);
+    assertTrue(names.stream().allMatch(filter::mightExist));
+    assertTrue(filter.mightExist(" Mr-Mime "));
+    assertTrue(filter.mightExist("10000"));
+    assertTrue(falsePositives < 1_000, "false positives: " + falsePositives);
+    assertTrue(filter.expectedFalsePositiveRate() < 0.01);
+    assertEquals(filter.approximateNames(), 1025, 30);
+    assertEquals(filter.rejections(), 100_000 - falsePositives);
+  }
+
+  @Test
+  public void testCreate_MemoryOverridesTheFalsePositiveRate() {
+    // Given
+    SpeciesNameFilter sized = SpeciesNameFilter.create(1000, 0.01, 0);
+    SpeciesNameFilter capped = SpeciesNameFilter.create(1000, 0.01, 256);
+
+    // When
+    for (int i = 0; i < 1000; i++) {
+      sized.add("species-" + i);
+      capped.add("species-" + i);
+    }
+
+    // Then
+    assertEquals(sized.byteSize(), 1200);
+    assertEquals(sized.hashCount(), 7);
+    assertEquals(capped.byteSize(), 256);
+    assertEquals(capped.hashCount(), 1);
+    assertTrue(capped.expectedFalsePositiveRate() > sized.expectedFalsePositiveRate());
+  }
+
+  @Test
+  public void testDisabled_LetsEveryNameThrough() {
+    // When / Then
+    assertTrue(SpeciesNameFilter.DISABLED.mightExist("missingno"));
+    assertEquals(SpeciesNameFilter.DISABLED.byteSize(), 0);
+    assertEquals(SpeciesNameFilter.DISABLED.rejections(), 0);
+  }
+}
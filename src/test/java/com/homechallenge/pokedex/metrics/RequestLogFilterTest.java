@@ -0,0 +1,90 @@
+package com.homechallenge.pokedex.metrics;
+
+import static org.testng.Assert.*;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RequestLogFilterTest {
+  private Logger requestLog;
+  private ListAppender<ILoggingEvent> appender;
+
+  @BeforeMethod
+  public void setUp() {
+    requestLog = (Logger) LoggerFactory.getLogger("pokedex.requests");
+    // independent of whichever logback configuration is on the test classpath
+    requestLog.setLevel(Level.INFO);
+    appender = new ListAppender<>();
+    appender.start();
+    requestLog.addAppender(appender);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    requestLog.detachAppender(appender);
+    requestLog.setLevel(null);
+  }
+
+  @Test
+  public void testDoFilter_OneLineWithUpstreamTimings() throws Exception {
+    // Given
+    RequestLogFilter filter = new RequestLogFilter(1.0);
+    PokedexMetrics metrics = new PokedexMetrics(new SimpleMeterRegistry());
+    MockFilterChain chain =
+        new MockFilterChain(
+            new HttpServlet() {
+              @Override
+              protected void service(HttpServletRequest request, HttpServletResponse response) {
+                metrics.recordUpstreamCall(PokedexMetrics.POKEAPI, () -> "species");
+                metrics.recordUpstreamCall(PokedexMetrics.FUNTRANSLATIONS, () -> "translation");
+              }
+            });
+
+    // When
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/pokemon/translated/mewtwo"),
+        new MockHttpServletResponse(),
+        chain);
+
+    // Then
+    assertEquals(appender.list.size(), 1);
+    String line = appender.list.get(0).getFormattedMessage();
+    assertTrue(
+        line.matches(
+            "method=GET path=/pokemon/translated/mewtwo status=200 duration_us=\\d+"
+                + " upstream_calls=2 upstream_us=\\d+"),
+        line);
+  }
+
+  @Test
+  public void testDoFilter_UnsampledRequestsSkippedUnlessServerError() throws Exception {
+    // Given
+    RequestLogFilter filter = new RequestLogFilter(0.0);
+    MockHttpServletResponse ok = new MockHttpServletResponse();
+    MockHttpServletResponse failed = new MockHttpServletResponse();
+    failed.setStatus(502);
+
+    // When
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/pokemon/pikachu"), ok, new MockFilterChain());
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/pokemon/mewtwo"), failed, new MockFilterChain());
+
+    // Then
+    assertEquals(appender.list.size(), 1);
+    assertTrue(appender.list.get(0).getFormattedMessage().contains("status=502"));
+  }
+}
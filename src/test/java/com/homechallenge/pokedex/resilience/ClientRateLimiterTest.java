@@ -0,0 +1,109 @@
+package com.homechallenge.pokedex.resilience;
+
+import static org.testng.Assert.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.annotations.Test;
+
+public class ClientRateLimiterTest {
+
+  @Test
+  public void testTryAcquire_BurstThenOnePermitPerInterval() {
+    // Given
+    AtomicLong now = new AtomicLong(1_000);
+    ClientRateLimiter limiter =
+        new ClientRateLimiter(
+            "plain", 10, Duration.ofSeconds(1), 3, 100, Duration.ofMinutes(1), now::get);
+
+    // When / Then
+    assertEquals(limiter.tryAcquire("ip:a"), 0);
+    assertEquals(limiter.tryAcquire("ip:a"), 0);
+    assertEquals(limiter.tryAcquire("ip:a"), 0);
+    assertEquals(limiter.tryAcquire("ip:a"), TimeUnit.MILLISECONDS.toNanos(100));
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+    assertEquals(limiter.tryAcquire("ip:a"), TimeUnit.MILLISECONDS.toNanos(60));
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(60));
+    assertEquals(limiter.tryAcquire("ip:a"), 0);
+    assertTrue(limiter.tryAcquire("ip:a") > 0);
+
+    assertEquals(limiter.rejections(), 3);
+  }
+
+  @Test
+  public void testTryAcquire_SeveralPermitsAreTakenTogetherOrNotAtAll() {
+    // Given
+    AtomicLong now = new AtomicLong();
+    ClientRateLimiter limiter =
+        new ClientRateLimiter(
+            "translated", 10, Duration.ofSeconds(1), 5, 100, Duration.ofMinutes(1), now::get);
+
+    // When / Then
+    assertEquals(limiter.tryAcquire("ip:a", 4), 0);
+    assertEquals(limiter.tryAcquire("ip:a", 3), TimeUnit.MILLISECONDS.toNanos(200));
+    assertEquals(limiter.tryAcquire("ip:a", 1), 0);
+
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(300));
+    assertEquals(limiter.tryAcquire("ip:a", 3), 0);
+    assertThrows(IllegalArgumentException.class, () -> limiter.tryAcquire("ip:a", 6));
+  }
+
+  @Test
+  public void testTryAcquire_ClientsHaveTheirOwnBuckets() {
+    // Given
+    AtomicLong now = new AtomicLong();
+    ClientRateLimiter limiter =
+        new ClientRateLimiter(
+            "translated", 1, Duration.ofMinutes(1), 1, 100, Duration.ofMinutes(1), now::get);
+
+    // When / Then
+    assertEquals(limiter.tryAcquire("key:abc"), 0);
+    assertTrue(limiter.tryAcquire("key:abc") > 0);
+    assertEquals(limiter.tryAcquire("key:def"), 0);
+    assertEquals(limiter.clients(), 2);
+
+    now.addAndGet(Duration.ofMinutes(1).toNanos());
+    assertEquals(limiter.tryAcquire("key:abc"), 0);
+  }
+
+  @Test
+  public void testTryAcquire_ConcurrentRequestsNeverExceedTheBurst() throws Exception {
+    // Given
+    ClientRateLimiter limiter =
+        new ClientRateLimiter(
+            "plain", 1, Duration.ofHours(1), 100, 100, Duration.ofMinutes(1), () -> 0L);
+    AtomicInteger allowed = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    // When
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int thread = 0; thread < 8; thread++) {
+        executor.execute(
+            () -> {
+              try {
+                start.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              for (int i = 0; i < 1_000; i++) {
+                if (limiter.tryAcquire("ip:a") == 0) {
+                  allowed.incrementAndGet();
+                }
+              }
+            });
+      }
+      start.countDown();
+    }
+
+    // Then
+    assertEquals(allowed.get(), 100);
+    assertEquals(limiter.rejections(), 7_900);
+  }
+}
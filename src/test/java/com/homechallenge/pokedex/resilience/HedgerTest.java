@@ -0,0 +1,240 @@
+package com.homechallenge.pokedex.resilience;
+
+import static org.testng.Assert.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Mono;
+
+public class HedgerTest {
+  private static final Duration HEDGE_DELAY = Duration.ofMillis(20);
+
+  private ExecutorService executor;
+  private AtomicInteger attempts;
+
+  @BeforeMethod
+  public void setUp() {
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    attempts = new AtomicInteger();
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testCall_SlowAttemptHedgedAndCancelled() throws InterruptedException {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+    CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+    // When
+    String result =
+        hedger.call(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                try {
+                  Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                  primaryInterrupted.countDown();
+                }
+                return "primary";
+              }
+              return "hedge";
+            });
+
+    // Then
+    assertEquals(result, "hedge");
+    assertEquals(attempts.get(), 2);
+    assertEquals(hedger.hedges(), 1);
+    assertEquals(hedger.hedgeWins(), 1);
+    assertTrue(primaryInterrupted.await(1, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCall_FastAttemptNotHedged() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+
+    // When
+    String result = hedger.call(() -> "attempt-" + attempts.incrementAndGet());
+
+    // Then
+    assertEquals(result, "attempt-1");
+    assertEquals(hedger.hedges(), 0);
+  }
+
+  @Test
+  public void testCall_NoHedgeOnceBudgetSpent() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 0.5, 100);
+
+    // When
+    for (int i = 0; i < 4; i++) {
+      hedger.call(
+          () -> {
+            attempts.incrementAndGet();
+            sleep(50);
+            return "slow";
+          });
+    }
+
+    // Then: four calls earn two hedges
+    assertEquals(hedger.hedges(), 2);
+    assertEquals(hedger.overBudget(), 2);
+    assertEquals(attempts.get(), 6);
+  }
+
+  @Test
+  public void testCall_FailureOfFirstAttemptPropagates() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+
+    // When
+    IllegalArgumentException thrown =
+        expectThrows(
+            IllegalArgumentException.class,
+            () ->
+                hedger.call(
+                    () -> {
+                      throw new IllegalArgumentException("not found");
+                    }));
+
+    // Then
+    assertEquals(thrown.getMessage(), "not found");
+    assertEquals(hedger.hedges(), 0);
+  }
+
+  @Test
+  public void testCall_FastHedgeFailureDoesNotCancelTheHealthyPrimary() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+
+    // When
+    String result =
+        hedger.call(
+            () -> {
+              if (attempts.incrementAndGet() == 1) {
+                sleep(300);
+                return "primary";
+              }
+              throw new IllegalStateException("503");
+            });
+
+    // Then
+    assertEquals(result, "primary");
+    assertEquals(hedger.hedges(), 1);
+    assertEquals(hedger.hedgeWins(), 0);
+  }
+
+  @Test
+  public void testCall_FailsWithThePrimaryErrorOnceBothAttemptsFailed() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+
+    // When
+    IllegalStateException thrown =
+        expectThrows(
+            IllegalStateException.class,
+            () ->
+                hedger.call(
+                    () -> {
+                      if (attempts.incrementAndGet() == 1) {
+                        sleep(300);
+                        throw new IllegalStateException("primary");
+                      }
+                      throw new IllegalStateException("hedge");
+                    }));
+
+    // Then
+    assertEquals(thrown.getMessage(), "primary");
+    assertEquals(attempts.get(), 2);
+  }
+
+  @Test
+  public void testCallMono_SlowSubscriptionHedged() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+    Mono<String> attempt =
+        Mono.defer(
+            () ->
+                attempts.incrementAndGet() == 1
+                    ? Mono.delay(Duration.ofSeconds(5)).thenReturn("primary")
+                    : Mono.just("hedge"));
+
+    // When
+    String result = hedger.call(attempt).block(Duration.ofSeconds(1));
+
+    // Then
+    assertEquals(result, "hedge");
+    assertEquals(hedger.hedgeWins(), 1);
+  }
+
+  @Test
+  public void testCallMono_FastHedgeFailureDoesNotCancelTheHealthyPrimary() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+    Mono<String> attempt =
+        Mono.defer(
+            () ->
+                attempts.incrementAndGet() == 1
+                    ? Mono.delay(Duration.ofMillis(500)).thenReturn("primary")
+                    : Mono.error(new IllegalStateException("503")));
+
+    // When
+    String result = hedger.call(attempt).block(Duration.ofSeconds(2));
+
+    // Then
+    assertEquals(result, "primary");
+    assertEquals(attempts.get(), 2);
+    assertEquals(hedger.hedgeWins(), 0);
+  }
+
+  @Test
+  public void testCallMono_PrimaryFailingBeforeTheDelayIsNotHedged() {
+    // Given
+    Hedger hedger = new Hedger(executor, 0.95, HEDGE_DELAY, HEDGE_DELAY, 1.0, 100);
+    Mono<String> attempt =
+        Mono.defer(
+            () -> {
+              attempts.incrementAndGet();
+              return Mono.error(new IllegalArgumentException("not found"));
+            });
+
+    // When
+    IllegalArgumentException thrown =
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> hedger.call(attempt).block(Duration.ofSeconds(1)));
+
+    // Then
+    assertEquals(thrown.getMessage(), "not found");
+    assertEquals(attempts.get(), 1);
+    assertEquals(hedger.hedges(), 0);
+  }
+
+  @Test
+  public void testDisabled_CallsInline() {
+    // When
+    String result = Hedger.DISABLED.call(() -> Thread.currentThread().getName());
+
+    // Then
+    assertEquals(result, Thread.currentThread().getName());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
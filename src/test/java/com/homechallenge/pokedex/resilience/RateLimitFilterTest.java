@@ -0,0 +1,164 @@
+package com.homechallenge.pokedex.resilience;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RateLimitFilterTest {
+  private AtomicLong now;
+  private RateLimitFilter filter;
+
+  @BeforeMethod
+  public void setUp() {
+    now = new AtomicLong();
+    filter =
+        new RateLimitFilter(
+            new ClientRateLimiter(
+                "plain", 10, Duration.ofSeconds(1), 2, 100, Duration.ofMinutes(1), now::get),
+            new ClientRateLimiter(
+                "translated", 1, Duration.ofMinutes(1), 3, 100, Duration.ofMinutes(1), now::get),
+            "X-API-Key",
+            2,
+            new ObjectMapper());
+  }
+
+  @Test
+  public void testDoFilter_TranslatedBudgetIsSeparateAndAnswers429() throws Exception {
+    // When
+    perform("/pokemon/translated/mewtwo", "10.0.0.1", null);
+    perform("/pokemon/translated/mewtwo", "10.0.0.1", null);
+    MockHttpServletResponse third = perform("/pokemon/translated/mewtwo", "10.0.0.1", null);
+    MockHttpServletResponse fourth = perform("/pokemon/translated/pikachu", "10.0.0.1", null);
+    MockHttpServletResponse plain = perform("/pokemon/mewtwo", "10.0.0.1", null);
+
+    // Then
+    assertEquals(third.getStatus(), 200);
+    assertEquals(fourth.getStatus(), 429);
+    assertEquals(fourth.getHeader(HttpHeaders.RETRY_AFTER), "60");
+    assertEquals(
+        fourth.getContentAsString(),
+        "{\"status\":429,\"error\":\"Too Many Requests\",\"message\":\"Too many translated"
+            + " requests, retry after 60 s\"}");
+    assertEquals(plain.getStatus(), 200);
+  }
+
+  @Test
+  public void testDoFilter_BatchTakesOneTokenPerDistinctName() throws Exception {
+    // Given
+    MockFilterChain chain = new MockFilterChain();
+
+    // When
+    MockHttpServletResponse translated =
+        batch("{\"names\":[\"Pikachu\",\"pikachu \",\"zubat\"],\"translated\":true}", chain);
+    MockHttpServletResponse single = perform("/pokemon/translated/mewtwo", "10.0.0.1", null);
+    MockHttpServletResponse untranslated =
+        batch("{\"names\":[\"pikachu\",\"zubat\"],\"translated\":false}", null);
+    MockHttpServletResponse plain = perform("/pokemon/mewtwo", "10.0.0.1", null);
+
+    // Then: the body is still readable downstream
+    assertEquals(translated.getStatus(), 200);
+    assertEquals(
+        new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8),
+        "{\"names\":[\"Pikachu\",\"pikachu \",\"zubat\"],\"translated\":true}");
+    assertEquals(single.getStatus(), 200);
+    assertEquals(untranslated.getStatus(), 200);
+    assertEquals(plain.getStatus(), 429);
+  }
+
+  @Test
+  public void testDoFilter_BatchLargerThanTheBurstIs413WithoutRetryAfter() throws Exception {
+    // When
+    MockHttpServletResponse tooLarge =
+        batch("{\"names\":[\"a\",\"b\",\"c\",\"d\"],\"translated\":true}", null);
+    MockHttpServletResponse fits =
+        batch("{\"names\":[\"a\",\"b\",\"c\"],\"translated\":true}", null);
+
+    // Then: the refused batch spent no tokens
+    assertEquals(tooLarge.getStatus(), 413);
+    assertNull(tooLarge.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(
+        tooLarge.getContentAsString(),
+        "{\"status\":413,\"error\":\"Payload Too Large\",\"message\":\"A batch of 4 names"
+            + " exceeds the translated burst of 3, split it\"}");
+    assertEquals(fits.getStatus(), 200);
+  }
+
+  @Test(
+      expectedExceptions = IllegalStateException.class,
+      expectedExceptionsMessageRegExp =
+          "pokedex.rate-limit.plain.burst \\(2\\) must be at least pokedex.batch.max-size \\(3\\)")
+  public void testConstructor_BurstSmallerThanTheBatchSize() {
+    // When
+    new RateLimitFilter(
+        new ClientRateLimiter(
+            "plain", 10, Duration.ofSeconds(1), 2, 100, Duration.ofMinutes(1), now::get),
+        new ClientRateLimiter(
+            "translated", 1, Duration.ofMinutes(1), 3, 100, Duration.ofMinutes(1), now::get),
+        "X-API-Key",
+        3,
+        new ObjectMapper());
+
+    // Then - Exception is expected
+  }
+
+  @Test
+  public void testDoFilter_KeyedByApiKeyThenAddress() throws Exception {
+    // When
+    perform("/pokemon/translated/mewtwo", "10.0.0.1", "alice");
+    perform("/pokemon/translated/mewtwo", "10.0.0.1", "alice");
+    perform("/pokemon/translated/mewtwo", "10.0.0.1", "alice");
+    MockHttpServletResponse sameKey = perform("/pokemon/translated/mewtwo", "10.0.0.2", "alice");
+    MockHttpServletResponse otherKey = perform("/pokemon/translated/mewtwo", "10.0.0.1", "bob");
+    MockHttpServletResponse noKey = perform("/pokemon/translated/mewtwo", "10.0.0.1", null);
+
+    // Then
+    assertEquals(sameKey.getStatus(), 429);
+    assertEquals(otherKey.getStatus(), 200);
+    assertEquals(noKey.getStatus(), 200);
+  }
+
+  @Test
+  public void testDoFilter_PlainRetryAfterIsRoundedUpAndOtherPathsPass() throws Exception {
+    // When
+    perform("/pokemon/pikachu", "10.0.0.1", null);
+    perform("/pokemon/pikachu", "10.0.0.1", null);
+    MockHttpServletResponse limited = perform("/pokemon/pikachu", "10.0.0.1", null);
+    MockHttpServletResponse health = perform("/actuator/health", "10.0.0.1", null);
+
+    // Then
+    assertEquals(limited.getStatus(), 429);
+    assertEquals(limited.getHeader(HttpHeaders.RETRY_AFTER), "1");
+    assertEquals(health.getStatus(), 200);
+  }
+
+  private MockHttpServletResponse perform(String path, String address, String apiKey)
+      throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.setRemoteAddr(address);
+    if (apiKey != null) {
+      request.addHeader("X-API-Key", apiKey);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  private MockHttpServletResponse batch(String body, MockFilterChain chain) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/pokemon/batch");
+    request.setRemoteAddr("10.0.0.1");
+    request.setContentType("application/json");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain == null ? new MockFilterChain() : chain);
+    return response;
+  }
+}
@@ -0,0 +1,209 @@
+package com.homechallenge.pokedex.resilience;
+
+import static org.testng.Assert.*;
+
+import com.homechallenge.pokedex.exception.UpstreamUnavailableException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class UpstreamGuardTest {
+  private MutableClock clock;
+  private CircuitBreaker circuitBreaker;
+  private AimdLimiter limiter;
+  private UpstreamGuard guard;
+  private AtomicInteger calls;
+
+  @BeforeMethod
+  public void setUp() {
+    clock = new MutableClock();
+    circuitBreaker = new CircuitBreaker(3, Duration.ofSeconds(30), Duration.ofHours(1), clock);
+    limiter = new AimdLimiter(4, 1, 8, Duration.ofSeconds(2), 0.5);
+    guard = new UpstreamGuard("funtranslations", circuitBreaker, limiter);
+    calls = new AtomicInteger();
+  }
+
+  @Test
+  public void testCall_RateLimitOpensForRetryAfter() {
+    // Given
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.RETRY_AFTER, "120");
+    callFailing(tooManyRequests(headers));
+
+    // When
+    clock.advance(Duration.ofSeconds(60));
+    UpstreamUnavailableException rejected =
+        expectThrows(UpstreamUnavailableException.class, () -> guard.call(this::succeed));
+    clock.advance(Duration.ofSeconds(61));
+    String probe = guard.call(this::succeed);
+
+    // Then
+    assertEquals(rejected.getReason(), UpstreamGuard.CIRCUIT_OPEN);
+    assertEquals(probe, "ok");
+    assertEquals(calls.get(), 2);
+    assertEquals(circuitBreaker.state(), CircuitBreaker.State.CLOSED);
+    assertEquals(circuitBreaker.rejectedCount(), 1);
+  }
+
+  @Test
+  public void testCall_OpensAfterConsecutiveServerErrorsAndReopensOnFailedProbe() {
+    // Given
+    for (int i = 0; i < 3; i++) {
+      callFailing(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+    }
+    assertEquals(circuitBreaker.state(), CircuitBreaker.State.OPEN);
+
+    // When
+    clock.advance(Duration.ofSeconds(31));
+    callFailing(new HttpServerErrorException(HttpStatus.BAD_GATEWAY));
+
+    // Then
+    assertEquals(circuitBreaker.state(), CircuitBreaker.State.OPEN);
+    assertEquals(circuitBreaker.openedCount(), 2);
+    assertThrows(UpstreamUnavailableException.class, () -> guard.call(this::succeed));
+  }
+
+  @Test
+  public void testCall_ClientErrorsDoNotOpen() {
+    // When
+    for (int i = 0; i < 5; i++) {
+      callFailing(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+    }
+
+    // Then
+    assertEquals(circuitBreaker.state(), CircuitBreaker.State.CLOSED);
+    assertEquals(limiter.limit(), 4);
+    assertEquals(limiter.inFlight(), 0);
+  }
+
+  @Test
+  public void testLimiter_AdditiveIncreaseMultiplicativeDecrease() {
+    // When
+    for (int i = 0; i < 5; i++) {
+      guard.call(this::succeed);
+    }
+    int raised = limiter.limit();
+    callFailing(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+    // Then
+    assertEquals(raised, 5);
+    assertEquals(limiter.limit(), 2);
+  }
+
+  @Test
+  public void testLimiter_RejectsBeyondLimit() {
+    // Given
+    AimdLimiter single = new AimdLimiter(1, 1, 1, Duration.ofSeconds(2), 0.5);
+    UpstreamGuard narrow = new UpstreamGuard("funtranslations", circuitBreaker, single);
+
+    // When
+    UpstreamUnavailableException rejected =
+        expectThrows(
+            UpstreamUnavailableException.class,
+            () -> narrow.call(() -> narrow.call(this::succeed)));
+
+    // Then
+    assertEquals(rejected.getReason(), UpstreamGuard.CONCURRENCY_LIMIT);
+    assertEquals(single.rejectedCount(), 1);
+    assertEquals(single.inFlight(), 0);
+  }
+
+  @Test
+  public void testCall_ErrorReleasesThePermitAndTheProbe() {
+    // Given
+    for (int i = 0; i < 3; i++) {
+      callFailing(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+    clock.advance(Duration.ofSeconds(31));
+
+    // When
+    expectThrows(
+        StackOverflowError.class,
+        () ->
+            guard.call(
+                () -> {
+                  throw new StackOverflowError();
+                }));
+    String probe = guard.call(this::succeed);
+
+    // Then
+    assertEquals(probe, "ok");
+    assertEquals(limiter.inFlight(), 0);
+    assertEquals(circuitBreaker.state(), CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  public void testRetryAfter_SecondsAndHttpDate() {
+    // Given
+    HttpHeaders seconds = new HttpHeaders();
+    seconds.set(HttpHeaders.RETRY_AFTER, "3600");
+    HttpHeaders past = new HttpHeaders();
+    past.set(HttpHeaders.RETRY_AFTER, "Wed, 21 Oct 2015 07:28:00 GMT");
+    HttpHeaders garbage = new HttpHeaders();
+    garbage.set(HttpHeaders.RETRY_AFTER, "soon");
+
+    // Then
+    assertEquals(UpstreamGuard.retryAfter(seconds), Duration.ofHours(1));
+    assertEquals(UpstreamGuard.retryAfter(past), Duration.ZERO);
+    assertNull(UpstreamGuard.retryAfter(garbage));
+    assertNull(UpstreamGuard.retryAfter(new HttpHeaders()));
+  }
+
+  private String succeed() {
+    calls.incrementAndGet();
+    return "ok";
+  }
+
+  private void callFailing(RuntimeException failure) {
+    assertThrows(
+        failure.getClass(),
+        () ->
+            guard.call(
+                () -> {
+                  calls.incrementAndGet();
+                  throw failure;
+                }));
+  }
+
+  private static HttpClientErrorException tooManyRequests(HttpHeaders headers) {
+    return HttpClientErrorException.create(
+        HttpStatus.TOO_MANY_REQUESTS,
+        "Too Many Requests",
+        headers,
+        new byte[0],
+        StandardCharsets.UTF_8);
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package com.homechallenge.pokedex.service;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import com.homechallenge.pokedex.metrics.RequestStatistics;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CacheWarmupServiceTest {
+  private static final PokemonDTO PIKACHU =
+      new PokemonDTO(25, "pikachu", "Electric mouse.", "forest", false);
+  private static final PokemonDTO MEWTWO =
+      new PokemonDTO(150, "mewtwo", "Created by a scientist.", "rare", true);
+  private static final PokemonDTO ZUBAT = new PokemonDTO(41, "zubat", "Bat.", "cave", false);
+
+  private Path directory;
+  private PokemonService pokemonService;
+  private TranslationCache translationCache;
+  private RequestStatistics requestStatistics;
+  private CacheWarmupService warmup;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("request-stats");
+    pokemonService = mock(PokemonService.class);
+    translationCache = new TranslationCache(100, Duration.ofDays(7), Duration.ofMinutes(5));
+    requestStatistics = new RequestStatistics(directory.resolve("request-stats.tsv"));
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(PIKACHU);
+    when(pokemonService.getPokemonByName("mewtwo")).thenReturn(MEWTWO);
+    when(pokemonService.getPokemonByName("zubat")).thenReturn(ZUBAT);
+  }
+
+  @AfterMethod
+  public void tearDown() throws IOException {
+    if (warmup != null) {
+      warmup.shutdown();
+    }
+    try (var files = Files.walk(directory)) {
+      files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Test
+  public void testWarmUp_ConfiguredNamesThenMostRequested() {
+    // Given
+    requestStatistics.record("zubat");
+    requestStatistics.record("Pikachu");
+    requestStatistics.record("pikachu");
+    when(pokemonService.getPokemonByName("missingno"))
+        .thenThrow(new PokemonNotFoundException("missingno"));
+    translationCache.putSuccess("yoda", MEWTWO.description(), "By a scientist, created.");
+    warmup = warmup(" Mewtwo, missingno ", 10, 10, Duration.ofSeconds(1));
+
+    // When
+    CacheWarmupService.Result result = warmup.warmUp();
+
+    // Then
+    assertEquals(
+        List.copyOf(warmup.namesToWarm()), List.of("mewtwo", "missingno", "pikachu", "zubat"));
+    assertEquals(result, new CacheWarmupService.Result(3, 2, 1));
+    verify(pokemonService, never()).getTranslatedPokemonByName("mewtwo");
+    verify(pokemonService).getTranslatedPokemonByName("pikachu");
+    verify(pokemonService).getTranslatedPokemonByName("zubat");
+  }
+
+  @Test
+  public void testRun_ReadyOnceSpeciesAreWarmWhileTranslationsWaitForTheBudget() throws Exception {
+    // Given
+    warmup = warmup("pikachu, zubat, mewtwo", 0, 1, Duration.ofSeconds(5));
+
+    // When
+    long start = System.nanoTime();
+    warmup.run(new DefaultApplicationArguments());
+    long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // Then: every species is warm before readiness, the budget holds back later translations
+    assertTrue(waitedMillis < 5_000, "waited " + waitedMillis + " ms");
+    verify(pokemonService).getPokemonByName("pikachu");
+    verify(pokemonService).getPokemonByName("zubat");
+    verify(pokemonService).getPokemonByName("mewtwo");
+    verify(pokemonService, timeout(1_000)).getTranslatedPokemonByName("pikachu");
+    verify(pokemonService, never()).getTranslatedPokemonByName("zubat");
+    verify(pokemonService, never()).getTranslatedPokemonByName("mewtwo");
+  }
+
+  @Test
+  public void testRequestStatistics_SavedAndLoaded() throws IOException {
+    // Given
+    requestStatistics.record("mewtwo");
+    requestStatistics.record("pikachu");
+    requestStatistics.record("pikachu");
+    requestStatistics.save();
+
+    // When
+    RequestStatistics restored = new RequestStatistics(directory.resolve("request-stats.tsv"));
+    int loaded = restored.load();
+    restored.record("zubat");
+
+    // Then
+    assertEquals(loaded, 2);
+    assertEquals(restored.top(2), List.of("pikachu", "mewtwo"));
+    assertEquals(restored.top(5), List.of("pikachu", "mewtwo", "zubat"));
+  }
+
+  private CacheWarmupService warmup(
+      String names, int topN, int translationBudget, Duration readinessTimeout) {
+    return new CacheWarmupService(
+        pokemonService,
+        translationCache,
+        requestStatistics,
+        names,
+        topN,
+        readinessTimeout,
+        Duration.ZERO,
+        Duration.ofMinutes(5),
+        translationBudget,
+        Duration.ofHours(1));
+  }
+}
@@ -0,0 +1,127 @@
+package com.homechallenge.pokedex.service;
+
+import static org.mockito.Mockito.*;
+import static org.testng.Assert.*;
+
+import com.homechallenge.pokedex.dto.PokemonBatchError;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PokemonBatchServiceTest {
+
+  private static final int MAX_SIZE = 5;
+  private static final int PARALLELISM = 2;
+
+  private PokemonService pokemonService;
+  private ExecutorService batchExecutor;
+  private PokemonBatchService pokemonBatchService;
+
+  @BeforeMethod
+  public void setUp() {
+    pokemonService = mock(PokemonService.class);
+    batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    pokemonBatchService =
+        new PokemonBatchService(pokemonService, batchExecutor, MAX_SIZE, PARALLELISM);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    batchExecutor.close();
+  }
+
+  @Test
+  public void testGetPokemonBatch_PartialFailureDoesNotFailBatch() {
+    // Given
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric.", "forest", false);
+    PokemonDTO mewtwo = new PokemonDTO(150L, "mewtwo", "Created.", "rare", true);
+    when(pokemonService.getPokemonByName("pikachu")).thenReturn(pikachu);
+    when(pokemonService.getPokemonByName("mewtwo")).thenReturn(mewtwo);
+    when(pokemonService.getPokemonByName("nonexistent"))
+        .thenThrow(new PokemonNotFoundException("nonexistent"));
+
+    // When
+    PokemonBatchResponse response =
+        pokemonBatchService.getPokemonBatch(
+            new PokemonBatchRequest(List.of("pikachu", "nonexistent", "mewtwo"), false));
+
+    // Then
+    assertEquals(response.results(), List.of(pikachu, mewtwo));
+    assertEquals(
+        response.errors(),
+        List.of(new PokemonBatchError("nonexistent", 404, "Pokemon not found: nonexistent")));
+  }
+
+  @Test
+  public void testGetPokemonBatch_TranslatedAndDeduplicated() {
+    // Given
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Gather,  they do.", "forest", false);
+    when(pokemonService.getTranslatedPokemonByName("pikachu")).thenReturn(pikachu);
+
+    // When
+    PokemonBatchResponse response =
+        pokemonBatchService.getPokemonBatch(
+            new PokemonBatchRequest(List.of("pikachu", "PIKACHU"), true));
+
+    // Then
+    assertEquals(response.results(), List.of(pikachu));
+    assertTrue(response.errors().isEmpty());
+    verify(pokemonService, times(1)).getTranslatedPokemonByName("pikachu");
+    verify(pokemonService, never()).getPokemonByName(anyString());
+  }
+
+  @Test
+  public void testGetPokemonBatch_ParallelismIsBounded() {
+    // Given
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    when(pokemonService.getPokemonByName(anyString()))
+        .thenAnswer(
+            invocation -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Thread.sleep(50);
+              inFlight.decrementAndGet();
+              String name = invocation.getArgument(0);
+              return new PokemonDTO(1L, name, "", "forest", false);
+            });
+
+    // When
+    PokemonBatchResponse response =
+        pokemonBatchService.getPokemonBatch(
+            new PokemonBatchRequest(List.of("a", "b", "c", "d", "e"), false));
+
+    // Then
+    assertEquals(response.results().size(), 5);
+    assertTrue(maxInFlight.get() <= PARALLELISM, "max in flight: " + maxInFlight.get());
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "A batch cannot contain more than 5 names")
+  public void testGetPokemonBatch_TooManyNames() {
+    // When
+    pokemonBatchService.getPokemonBatch(
+        new PokemonBatchRequest(Collections.nCopies(MAX_SIZE + 1, "pikachu"), false));
+
+    // Then - Exception is expected
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Pokemon names cannot be null or empty")
+  public void testGetPokemonBatch_EmptyNames() {
+    // When
+    pokemonBatchService.getPokemonBatch(new PokemonBatchRequest(List.of(), false));
+
+    // Then - Exception is expected
+  }
+}
@@ -0,0 +1,103 @@
+package com.homechallenge.pokedex.service;
+
+import static org.testng.Assert.*;
+
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSearchResponse;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class PokemonSearchServiceTest {
+  private PokemonCache pokemonCache;
+  private PokemonSearchService searchService;
+
+  @BeforeMethod
+  public void setUp() throws IOException {
+    pokemonCache = new PokemonCache(100, Duration.ofMinutes(5));
+    searchService =
+        new PokemonSearchService(SpeciesIndex.EMPTY, pokemonCache, 5, 2, 30, Duration.ZERO);
+    searchService.start();
+  }
+
+  @Test
+  public void testSearch_ExactMatchFirstThenPrefixInDexOrder() {
+    // When
+    PokemonSearchResponse mew = searchService.search("Mew", 10);
+    PokemonSearchResponse charm = searchService.search("charm", 10);
+
+    // Then
+    assertEquals(mew.suggestions(), List.of("mew", "mewtwo"));
+    assertEquals(charm.suggestions(), List.of("charmander", "charmeleon"));
+    assertEquals(charm.query(), "charm");
+  }
+
+  @Test
+  public void testSearch_TyposAndPunctuation() {
+    // When / Then
+    assertEquals(searchService.search("pikahcu", 10).suggestions(), List.of("pikachu"));
+    assertEquals(searchService.search("bulbasuar", 1).suggestions(), List.of("bulbasaur"));
+    assertEquals(searchService.search("Mr. Mime", 10).suggestions(), List.of("mr-mime", "mr-rime"));
+    assertEquals(
+        searchService.search("Farfetch'd", 10).suggestions(), List.of("farfetchd", "sirfetchd"));
+    assertEquals(searchService.search("Flabébé", 10).suggestions(), List.of("flabebe"));
+    assertTrue(searchService.search("xq", 10).suggestions().isEmpty());
+  }
+
+  @Test
+  public void testSearch_LimitIsCappedByMaxResults() {
+    // When
+    PokemonSearchResponse response = searchService.search("s", 100);
+
+    // Then
+    assertEquals(
+        response.suggestions(),
+        List.of("squirtle", "spearow", "sandshrew", "sandslash", "slowpoke"));
+  }
+
+  @Test
+  public void testSearch_KeyLongerThanEveryNameHasNoFuzzyMatches() {
+    // When
+    PokemonSearchResponse response = searchService.search("pikachu-pikachu-pikachu", 10);
+
+    // Then
+    assertTrue(response.suggestions().isEmpty());
+  }
+
+  @Test
+  public void testRebuild_AddsCachedNamesWithoutDisturbingSearches() {
+    // Given
+    pokemonCache.put("newmon", new PokemonDTO(9999L, "newmon", "New.", "forest", false));
+    assertTrue(searchService.search("newm", 10).suggestions().isEmpty());
+
+    // When
+    searchService.rebuild();
+
+    // Then
+    assertEquals(searchService.search("newm", 10).suggestions(), List.of("newmon"));
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Search query cannot be null or empty")
+  public void testSearch_BlankQuery() {
+    // When
+    searchService.search(" ", 10);
+
+    // Then - Exception is expected
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Search query cannot be longer than 30 characters")
+  public void testSearch_QueryTooLong() {
+    // When
+    searchService.search("p".repeat(31), 10);
+
+    // Then - Exception is expected
+  }
+}
@@ -9,9 +9,26 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
+import com.homechallenge.pokedex.cache.BackgroundRefresher;
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
 import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.dto.PokemonSpeciesResponse;
 import com.homechallenge.pokedex.exception.PokemonNotFoundException;
 import com.homechallenge.pokedex.helper.HttpRequestHelper;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.AimdLimiter;
+import com.homechallenge.pokedex.resilience.CircuitBreaker;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import com.homechallenge.pokedex.translation.DictionaryTranslator;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +44,11 @@ public class PokemonServiceTest {
   private RestClient.RequestBodySpec translationRequestBodySpec;
   private RestClient.ResponseSpec pokeApiResponseSpec;
   private RestClient.ResponseSpec translationResponseSpec;
+  private PokemonCache pokemonCache;
+  private TranslationCache translationCache;
+  private SimpleMeterRegistry meterRegistry;
+  private PokedexMetrics metrics;
+  private UpstreamGuard translationGuard;
   private PokemonService pokemonService;
   private HttpRequestHelper pokeApiHttpRequestHelper;
   private HttpRequestHelper translationHttpRequestHelper;
@@ -51,7 +73,25 @@ public class PokemonServiceTest {
             translationRequestBodySpec,
             translationResponseSpec);
 
-    pokemonService = new PokemonService(pokeApiRestClient, translationRestClient);
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new PokedexMetrics(meterRegistry);
+    translationGuard = UpstreamGuard.unguarded("funtranslations");
+    pokemonCache = new PokemonCache(100, Duration.ofMinutes(5));
+    translationCache = new TranslationCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
   }
 
   @Test
@@ -64,7 +104,7 @@ public class PokemonServiceTest {
         "It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.";
     PokemonDTO expected = new PokemonDTO(150L, "mewtwo", description, "rare", true);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(cleanedDescription);
+    expected = expected.withDescription(cleanedDescription);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
 
     // When
@@ -84,7 +124,7 @@ public class PokemonServiceTest {
         "When several of these POKéMON gather, their electricity could build and cause lightning storms.";
     PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(cleanedDescription);
+    expected = expected.withDescription(cleanedDescription);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
 
     // When
@@ -144,7 +184,7 @@ public class PokemonServiceTest {
     String translatedText = "Created by a scientist,  it was.";
     PokemonDTO expected = new PokemonDTO(150L, "mewtwo", description, "rare", true);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(translatedText);
+    expected = expected.withDescription(translatedText);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
 
     Map<String, Object> translationResponse =
@@ -168,7 +208,7 @@ public class PokemonServiceTest {
     String translatedText = "In dark places,  colonies forms.";
     PokemonDTO expected = new PokemonDTO(41L, "zubat", description, HABITAT_CAVE, false);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(translatedText);
+    expected = expected.withDescription(translatedText);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
 
     Map<String, Object> translationResponse =
@@ -192,7 +232,7 @@ public class PokemonServiceTest {
     String translatedText = "'t stores electricity in its cheeks.";
     PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(translatedText);
+    expected = expected.withDescription(translatedText);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
 
     Map<String, Object> translationResponse =
@@ -217,7 +257,7 @@ public class PokemonServiceTest {
         "When several of these POKéMON gather, their electricity could build and cause lightning storms.";
     PokemonDTO expected = new PokemonDTO(25L, "pikachu", originalDescription, "forest", false);
     Map<String, Object> apiResponse = createPokemonApiResponse(expected);
-    expected.setDescription(cleanedDescription);
+    expected = expected.withDescription(cleanedDescription);
     pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
     translationHttpRequestHelper.mockPostRequestMap(
         TRANSLATE_PATH, TRANSLATION_TYPE_SHAKESPEARE, new HashMap<>());
@@ -227,6 +267,8 @@ public class PokemonServiceTest {
 
     // Then
     verifyResultAndMocks(result, expected, true);
+    assertEquals(
+        fallbacks(TRANSLATION_TYPE_SHAKESPEARE, PokedexMetrics.FALLBACK_EMPTY_RESPONSE), 1.0);
   }
 
   @Test(
@@ -288,8 +330,8 @@ public class PokemonServiceTest {
 
     // Then
     assertNotNull(result);
-    assertEquals(result.getName(), pokemonName);
-    assertEquals(result.getDescription(), "");
+    assertEquals(result.name(), pokemonName);
+    assertEquals(result.description(), "");
   }
 
   @Test
@@ -314,8 +356,8 @@ public class PokemonServiceTest {
 
     // Then
     assertNotNull(result);
-    assertEquals(result.getName(), pokemonName);
-    assertEquals(result.getDescription(), ""); // Should be empty string
+    assertEquals(result.name(), pokemonName);
+    assertEquals(result.description(), ""); // Should be empty string
   }
 
   @Test
@@ -339,23 +381,456 @@ public class PokemonServiceTest {
 
     // Then
     assertNotNull(result);
-    assertEquals(result.getName(), pokemonName);
-    assertNull(result.getHabitat());
-    assertEquals(result.getDescription(), description);
+    assertEquals(result.name(), pokemonName);
+    assertNull(result.habitat());
+    assertEquals(result.description(), description);
+  }
+
+  @Test
+  public void testGetPokemonByName_SecondCallServedFromCache() {
+    // Given
+    String pokemonName = "pikachu";
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    Map<String, Object> apiResponse = createPokemonApiResponse(expected);
+    pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, pokemonName, apiResponse);
+
+    // When
+    PokemonDTO first = pokemonService.getPokemonByName(pokemonName);
+    PokemonDTO second = pokemonService.getPokemonByName("PIKACHU");
+    PokemonDTO byId = pokemonService.getPokemonByName("25");
+
+    // Then
+    assertEquals(first, expected);
+    assertSame(second, first);
+    assertSame(byId, first);
+    verify(pokeApiRestClient, times(1)).get();
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_DoesNotMutateCachedPokemon() {
+    // Given
+    String pokemonName = "pikachu";
+    String description = "When several of these POKéMON gather.";
+    String translatedText = "Gather,  several of these pokémon.";
+    PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, pokemonName, createPokemonApiResponse(expected));
+    translationHttpRequestHelper.mockPostRequestMap(
+        TRANSLATE_PATH,
+        TRANSLATION_TYPE_SHAKESPEARE,
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+
+    // When
+    PokemonDTO translated = pokemonService.getTranslatedPokemonByName(pokemonName);
+    PokemonDTO plain = pokemonService.getPokemonByName(pokemonName);
+
+    // Then
+    assertEquals(translated.description(), translatedText);
+    assertEquals(plain.description(), description);
+    verify(pokeApiRestClient, times(1)).get();
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_TranslationServedFromCache() {
+    // Given
+    String description = "When several of these POKéMON gather.";
+    String translatedText = "Gather,  several of these pokémon.";
+    PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, "pikachu", createPokemonApiResponse(expected));
+    translationHttpRequestHelper.mockPostRequestMap(
+        TRANSLATE_PATH,
+        TRANSLATION_TYPE_SHAKESPEARE,
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+
+    // When
+    pokemonService.getTranslatedPokemonByName("pikachu");
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu");
+
+    // Then
+    assertEquals(result.description(), translatedText);
+    verify(translationRestClient, times(1)).post();
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_TranslationFailureCachedBriefly() {
+    // Given
+    String description = "When several of these POKéMON gather.";
+    PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, "pikachu", createPokemonApiResponse(expected));
+    doThrow(new RuntimeException("Too Many Requests")).when(translationRestClient).post();
+
+    // When
+    pokemonService.getTranslatedPokemonByName("pikachu");
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu");
+
+    // Then
+    assertEquals(result.description(), description);
+    assertEquals(translationCache.failureHits(), 1);
+    assertEquals(fallbacks(TRANSLATION_TYPE_SHAKESPEARE, PokedexMetrics.FALLBACK_ERROR), 1.0);
+    assertEquals(
+        fallbacks(TRANSLATION_TYPE_SHAKESPEARE, PokedexMetrics.FALLBACK_CACHED_FAILURE), 1.0);
+    assertEquals(
+        meterRegistry
+            .get("pokedex.translations")
+            .tag("type", TRANSLATION_TYPE_SHAKESPEARE)
+            .counter()
+            .count(),
+        2.0);
+    verify(translationRestClient, times(1)).post();
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_OpenCircuitSkipsTranslation() {
+    // Given
+    translationGuard =
+        new UpstreamGuard(
+            "funtranslations",
+            new CircuitBreaker(5, Duration.ofSeconds(30), Duration.ofHours(1)),
+            new AimdLimiter(5, 1, 10, Duration.ofSeconds(2), 0.5));
+    translationGuard.circuitBreaker().onRateLimited(Duration.ofMinutes(10));
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+    String description = "When several of these POKéMON gather.";
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH,
+        "pikachu",
+        createPokemonApiResponse(new PokemonDTO(25L, "pikachu", description, "forest", false)));
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu");
+
+    // Then
+    assertEquals(result.description(), description);
+    assertNull(translationCache.get(TRANSLATION_TYPE_SHAKESPEARE, description));
+    assertEquals(fallbacks(TRANSLATION_TYPE_SHAKESPEARE, UpstreamGuard.CIRCUIT_OPEN), 1.0);
+    verifyNoInteractions(translationRestClient);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_OpenCircuitFallsBackToLocalTranslation()
+      throws IOException {
+    // Given
+    translationGuard =
+        new UpstreamGuard(
+            "funtranslations",
+            new CircuitBreaker(5, Duration.ofSeconds(30), Duration.ofHours(1)),
+            new AimdLimiter(5, 1, 10, Duration.ofSeconds(2), 0.5));
+    translationGuard.circuitBreaker().onRateLimited(Duration.ofMinutes(10));
+    pokemonService =
+        localTranslationService(
+            new LocalTranslation(DictionaryTranslator.load(), LocalTranslation.Mode.FALLBACK));
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH,
+        "pikachu",
+        createPokemonApiResponse(
+            new PokemonDTO(25L, "pikachu", "When you are near, it hides.", "forest", false)));
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu");
+
+    // Then
+    assertEquals(result.description(), "At which hour thou art near, it hides.");
+    assertEquals(fallbacks(TRANSLATION_TYPE_SHAKESPEARE, UpstreamGuard.CIRCUIT_OPEN), 1.0);
+    assertEquals(
+        meterRegistry
+            .get("pokedex.translation.local")
+            .tag("type", TRANSLATION_TYPE_SHAKESPEARE)
+            .counter()
+            .count(),
+        1.0);
+    verifyNoInteractions(translationRestClient);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_PrimaryLocalTranslationSkipsApi() throws IOException {
+    // Given
+    pokemonService =
+        localTranslationService(
+            new LocalTranslation(DictionaryTranslator.load(), LocalTranslation.Mode.PRIMARY));
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH,
+        "mewtwo",
+        createPokemonApiResponse(
+            new PokemonDTO(150L, "mewtwo", "It was created by a scientist.", "rare", true)));
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("mewtwo");
+
+    // Then
+    assertEquals(result.description(), "Created by a scientist, it was.");
+    assertTrue(pokemonService.translatesLocally());
+    assertNull(translationCache.get(TRANSLATION_TYPE_YODA, "It was created by a scientist."));
+    verifyNoInteractions(translationRestClient);
+  }
+
+  @Test
+  public void testGetPokemonByName_UpstreamCallsTimedByOutcome() {
+    // Given
+    PokemonDTO pikachu =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, "pikachu", createPokemonApiResponse(pikachu));
+
+    // When
+    pokemonService.getPokemonByName("pikachu");
+    pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, "missingno", new HashMap<>());
+    assertThrows(
+        PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("missingno"));
+
+    // Then
+    assertEquals(upstreamCalls(PokedexMetrics.POKEAPI, "success"), 1);
+    assertEquals(upstreamCalls(PokedexMetrics.POKEAPI, "not_found"), 1);
+    assertEquals(meterRegistry.get("pokedex.species.mapping").timer().count(), 1);
+    assertEquals(meterRegistry.get("pokedex.pokemon.not.found").counter().count(), 1.0);
+  }
+
+  @Test
+  public void testGetPokemonByName_ServedFromIndexWithoutNetwork() {
+    // Given
+    SpeciesIndex index =
+        new SpeciesIndex.Builder()
+            .add(25L, "pikachu", "forest", false, "When several of\nthese POKéMON\fgather.")
+            .build();
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            index,
+            false,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+
+    // When
+    PokemonDTO byName = pokemonService.getPokemonByName("Pikachu");
+    PokemonDTO byId = pokemonService.getPokemonByName("25");
+
+    // Then
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    assertEquals(byName, expected);
+    assertEquals(byId, expected);
+    verifyNoInteractions(pokeApiRestClient);
+  }
+
+  @Test(
+      expectedExceptions = PokemonNotFoundException.class,
+      expectedExceptionsMessageRegExp = "Pokemon not found: missingno")
+  public void testGetPokemonByName_OfflineMissIsNotFound() {
+    // Given
+    SpeciesIndex index =
+        new SpeciesIndex.Builder().add(25L, "pikachu", "forest", false, null).build();
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            index,
+            true,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+
+    // When
+    try {
+      pokemonService.getPokemonByName("missingno");
+    } finally {
+      // Then
+      verifyNoInteractions(pokeApiRestClient);
+    }
+  }
+
+  @Test
+  public void testGetPokemonByName_StaleEntryServedThenRefreshed() throws InterruptedException {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("pokemon-species", Runnable::run, 1);
+    pokemonCache = new PokemonCache(100, Duration.ofMillis(1), Duration.ofMinutes(1), refresher);
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, "pikachu", createPokemonApiResponse(expected));
+    PokemonDTO first = pokemonService.getPokemonByName("pikachu");
+    Thread.sleep(20);
+
+    // When
+    PokemonDTO stale = pokemonService.getPokemonByName("pikachu");
+
+    // Then
+    assertSame(stale, first);
+    assertNotSame(pokemonCache.get("pikachu"), first);
+    assertEquals(pokemonCache.get("25"), expected);
+    assertEquals(refresher.successes(), 1);
+    verify(pokeApiRestClient, times(2)).get();
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_StaleTranslationKeptWhenRefreshFails()
+      throws InterruptedException {
+    // Given
+    BackgroundRefresher refresher = new BackgroundRefresher("translations", Runnable::run, 1);
+    translationCache =
+        new TranslationCache(
+            100, Duration.ofMillis(1), Duration.ofMinutes(1), Duration.ofMinutes(1), refresher);
+    pokemonService =
+        new PokemonService(
+            pokeApiRestClient,
+            translationRestClient,
+            pokemonCache,
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            metrics,
+            translationGuard,
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED);
+    String translatedText = "Gather,  several of these pokémon.";
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH,
+        "pikachu",
+        createPokemonApiResponse(
+            new PokemonDTO(
+                25L, "pikachu", "When several of these POKéMON gather.", "forest", false)));
+    translationHttpRequestHelper.mockPostRequestMap(
+        TRANSLATE_PATH,
+        TRANSLATION_TYPE_SHAKESPEARE,
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+    pokemonService.getTranslatedPokemonByName("pikachu");
+    Thread.sleep(20);
+    doThrow(new RuntimeException("Too Many Requests")).when(translationRestClient).post();
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu");
+
+    // Then
+    assertEquals(result.description(), translatedText);
+    assertEquals(refresher.failures(), 1);
+    verify(translationRestClient, times(2)).post();
+  }
+
+  @Test
+  public void testGetPokemonByName_NameFilterRejectsWithoutCallingPokeApi() {
+    // Given
+    SpeciesNameFilter filter = SpeciesNameFilter.create(100, 0.01, 0);
+    filter.add("pikachu");
+    pokemonService = notFoundService(filter, NotFoundCache.DISABLED);
+    PokemonDTO pikachu = new PokemonDTO(25L, "pikachu", "Electric.", "forest", false);
+    pokeApiHttpRequestHelper.mockGetRequestMap(
+        POKEMON_SPECIES_PATH, "pikachu", createPokemonApiResponse(pikachu));
+
+    // When
+    assertThrows(PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("pikachuu"));
+    PokemonDTO result = pokemonService.getPokemonByName("Pikachu");
+
+    // Then
+    assertEquals(result.name(), "pikachu");
+    assertEquals(filter.rejections(), 1);
+    assertEquals(meterRegistry.get("pokedex.pokemon.not.found").counter().count(), 1.0);
+    verify(pokeApiRestClient, times(1)).get();
+  }
+
+  @Test
+  public void testGetPokemonByName_ConfirmedMissIsNotFetchedAgain() {
+    // Given
+    NotFoundCache notFoundCache = new NotFoundCache(100, Duration.ofMinutes(5));
+    pokemonService = notFoundService(SpeciesNameFilter.DISABLED, notFoundCache);
+    pokeApiHttpRequestHelper.mockGetRequestMap(POKEMON_SPECIES_PATH, "missingno", new HashMap<>());
+
+    // When
+    assertThrows(
+        PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("missingno"));
+    assertThrows(
+        PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("MissingNo"));
+
+    // Then
+    assertTrue(notFoundCache.contains("missingno"));
+    verify(pokeApiRestClient, times(1)).get();
+  }
+
+  private PokemonService notFoundService(
+      SpeciesNameFilter speciesNameFilter, NotFoundCache notFoundCache) {
+    return new PokemonService(
+        pokeApiRestClient,
+        translationRestClient,
+        pokemonCache,
+        translationCache,
+        SpeciesIndex.EMPTY,
+        false,
+        metrics,
+        translationGuard,
+        Hedger.DISABLED,
+        LocalTranslation.DISABLED,
+        speciesNameFilter,
+        notFoundCache);
+  }
+
+  private PokemonService localTranslationService(LocalTranslation localTranslation) {
+    return new PokemonService(
+        pokeApiRestClient,
+        translationRestClient,
+        pokemonCache,
+        translationCache,
+        SpeciesIndex.EMPTY,
+        false,
+        metrics,
+        translationGuard,
+        Hedger.DISABLED,
+        localTranslation,
+        SpeciesNameFilter.DISABLED,
+        NotFoundCache.DISABLED);
   }
 
   private Map<String, Object> createPokemonApiResponse(PokemonDTO dto) {
     Map<String, Object> response = new HashMap<>();
-    response.put("id", dto.getId());
-    response.put("name", dto.getName());
-    response.put("is_legendary", dto.isLegendary());
+    response.put("id", dto.id());
+    response.put("name", dto.name());
+    response.put("is_legendary", dto.legendary());
 
     Map<String, Object> habitat = new HashMap<>();
-    habitat.put("name", dto.getHabitat());
+    habitat.put("name", dto.habitat());
     response.put("habitat", habitat);
 
     Map<String, Object> flavorTextEntry = new HashMap<>();
-    flavorTextEntry.put("flavor_text", dto.getDescription());
+    flavorTextEntry.put("flavor_text", dto.description());
     flavorTextEntry.put("language", Map.of("name", "en"));
 
     response.put("flavor_text_entries", List.of(flavorTextEntry));
@@ -363,6 +838,24 @@ public class PokemonServiceTest {
     return response;
   }
 
+  private double fallbacks(String translationType, String reason) {
+    return meterRegistry
+        .get("pokedex.translation.fallbacks")
+        .tag("type", translationType)
+        .tag("reason", reason)
+        .counter()
+        .count();
+  }
+
+  private long upstreamCalls(String upstream, String outcome) {
+    return meterRegistry
+        .get("pokedex.upstream.calls")
+        .tag("upstream", upstream)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
   private void verifyResultAndMocks(PokemonDTO result, PokemonDTO expected) {
     verifyResultAndMocks(result, expected, false);
   }
@@ -373,15 +866,14 @@ public class PokemonServiceTest {
     assertEquals(result, expected);
 
     verify(pokeApiRestClient, times(1)).get();
-    verify(pokeApiRequestHeadersUriSpec, times(1))
-        .uri(eq(POKEMON_SPECIES_PATH), eq(result.getName()));
+    verify(pokeApiRequestHeadersUriSpec, times(1)).uri(eq(POKEMON_SPECIES_PATH), eq(result.name()));
     verify(pokeApiRequestHeadersUriSpec, times(1)).retrieve();
-    verify(pokeApiResponseSpec, times(1)).body(eq(Map.class));
+    verify(pokeApiResponseSpec, times(1)).body(eq(PokemonSpeciesResponse.class));
 
     if (verifyTranslation) {
       verify(translationRestClient, times(1)).post();
       String translationType =
-          (expected.isLegendary() || HABITAT_CAVE.equalsIgnoreCase(expected.getHabitat()))
+          (expected.legendary() || HABITAT_CAVE.equalsIgnoreCase(expected.habitat()))
               ? TRANSLATION_TYPE_YODA
               : TRANSLATION_TYPE_SHAKESPEARE;
       verify(translationRequestBodyUriSpec, times(1)).uri(eq(TRANSLATE_PATH), eq(translationType));
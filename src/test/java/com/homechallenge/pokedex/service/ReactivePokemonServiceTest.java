@@ -0,0 +1,551 @@
+package com.homechallenge.pokedex.service;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.HABITAT_CAVE;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_SHAKESPEARE;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_YODA;
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.homechallenge.pokedex.cache.NotFoundCache;
+import com.homechallenge.pokedex.cache.PokemonCache;
+import com.homechallenge.pokedex.cache.TranslationCache;
+import com.homechallenge.pokedex.dto.PokemonBatchRequest;
+import com.homechallenge.pokedex.dto.PokemonBatchResponse;
+import com.homechallenge.pokedex.dto.PokemonDTO;
+import com.homechallenge.pokedex.exception.PokemonNotFoundException;
+import com.homechallenge.pokedex.index.SpeciesIndex;
+import com.homechallenge.pokedex.index.SpeciesNameFilter;
+import com.homechallenge.pokedex.metrics.PokedexMetrics;
+import com.homechallenge.pokedex.resilience.Hedger;
+import com.homechallenge.pokedex.resilience.UpstreamGuard;
+import com.homechallenge.pokedex.translation.LocalTranslation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import reactor.core.publisher.Mono;
+
+/** Mirrors {@link PokemonServiceTest} for the WebClient-based service. */
+public class ReactivePokemonServiceTest {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private StubExchange pokeApiExchange;
+  private StubExchange translationExchange;
+  private TranslationCache translationCache;
+  private ReactivePokemonService pokemonService;
+
+  @BeforeMethod
+  public void setUp() {
+    pokeApiExchange = new StubExchange();
+    translationExchange = new StubExchange();
+    translationCache = new TranslationCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    pokemonService =
+        new ReactivePokemonService(
+            WebClient.builder()
+                .baseUrl("http://pokeapi.test")
+                .exchangeFunction(pokeApiExchange)
+                .build(),
+            WebClient.builder()
+                .baseUrl("http://funtranslations.test")
+                .exchangeFunction(translationExchange)
+                .build(),
+            new PokemonCache(100, Duration.ofMinutes(5)),
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            new PokedexMetrics(new SimpleMeterRegistry()),
+            UpstreamGuard.unguarded("funtranslations"),
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            NotFoundCache.DISABLED,
+            50,
+            4);
+  }
+
+  @Test
+  public void testGetPokemonByName_Success() {
+    // Given
+    String description =
+        "It was created by\na scientist after\nyears of horrific\fgene splicing and\nDNA engineering\nexperiments.";
+    PokemonDTO expected = new PokemonDTO(150L, "mewtwo", description, "rare", true);
+    pokeApiExchange.respond("/pokemon-species/mewtwo", createPokemonApiResponse(expected));
+    expected =
+        expected.withDescription(
+            "It was created by a scientist after years of horrific gene splicing and DNA engineering experiments.");
+
+    // When
+    PokemonDTO result = pokemonService.getPokemonByName("mewtwo").block();
+
+    // Then
+    assertEquals(result, expected);
+    assertEquals(pokeApiExchange.paths(), List.of("/pokemon-species/mewtwo"));
+  }
+
+  @Test
+  public void testGetPokemonByName_Pikachu() {
+    // Given
+    String description =
+        "When several of\nthese POKéMON\ngather, their\felectricity could\nbuild and cause\nlightning storms.";
+    PokemonDTO expected = new PokemonDTO(25L, "pikachu", description, "forest", false);
+    pokeApiExchange.respond("/pokemon-species/pikachu", createPokemonApiResponse(expected));
+    expected =
+        expected.withDescription(
+            "When several of these POKéMON gather, their electricity could build and cause lightning storms.");
+
+    // When
+    PokemonDTO result = pokemonService.getPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(result, expected);
+  }
+
+  @Test(
+      expectedExceptions = PokemonNotFoundException.class,
+      expectedExceptionsMessageRegExp = "Pokemon not found: nonexistent")
+  public void testGetPokemonByName_NotFound() {
+    // Given
+    pokeApiExchange.respond("/pokemon-species/nonexistent", new HashMap<>());
+
+    // When
+    pokemonService.getPokemonByName("nonexistent").block();
+
+    // Then - Exception is expected
+  }
+
+  @Test
+  public void testGetPokemonByName_UpstreamNotFoundIsCachedMiss() {
+    // Given
+    NotFoundCache notFoundCache = new NotFoundCache(100, Duration.ofMinutes(5));
+    pokemonService =
+        new ReactivePokemonService(
+            WebClient.builder()
+                .baseUrl("http://pokeapi.test")
+                .exchangeFunction(pokeApiExchange)
+                .build(),
+            WebClient.builder()
+                .baseUrl("http://funtranslations.test")
+                .exchangeFunction(translationExchange)
+                .build(),
+            new PokemonCache(100, Duration.ofMinutes(5)),
+            translationCache,
+            SpeciesIndex.EMPTY,
+            false,
+            new PokedexMetrics(new SimpleMeterRegistry()),
+            UpstreamGuard.unguarded("funtranslations"),
+            Hedger.DISABLED,
+            LocalTranslation.DISABLED,
+            SpeciesNameFilter.DISABLED,
+            notFoundCache,
+            50,
+            4);
+    pokeApiExchange.respondWithStatus("/pokemon-species/missingno", HttpStatus.NOT_FOUND);
+
+    // When
+    assertThrows(
+        PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("missingno").block());
+    assertThrows(
+        PokemonNotFoundException.class, () -> pokemonService.getPokemonByName("MissingNo").block());
+
+    // Then
+    assertTrue(notFoundCache.contains("missingno"));
+    assertEquals(pokeApiExchange.paths(), List.of("/pokemon-species/missingno"));
+  }
+
+  @Test(
+      expectedExceptions = PokemonNotFoundException.class,
+      expectedExceptionsMessageRegExp = "Pokemon not found: pikachu")
+  public void testGetPokemonByName_NullResponse() {
+    // Given
+    pokeApiExchange.respond("/pokemon-species/pikachu", null);
+
+    // When
+    pokemonService.getPokemonByName("pikachu").block();
+
+    // Then - Exception is expected
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Pokemon name cannot be null or empty")
+  public void testGetPokemonByName_NullName() {
+    // When
+    pokemonService.getPokemonByName(null).block();
+
+    // Then - Exception is expected
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Pokemon name cannot be null or empty")
+  public void testGetPokemonByName_EmptyName() {
+    // When
+    pokemonService.getPokemonByName("").block();
+
+    // Then - Exception is expected
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_LegendaryUsesYoda() {
+    // Given
+    String translatedText = "Created by a scientist,  it was.";
+    PokemonDTO expected =
+        new PokemonDTO(150L, "mewtwo", "It was created by\na scientist.", "rare", true);
+    pokeApiExchange.respond("/pokemon-species/mewtwo", createPokemonApiResponse(expected));
+    translationExchange.respond(
+        "/translate/yoda.json", createTranslationResponse(translatedText, TRANSLATION_TYPE_YODA));
+    expected = expected.withDescription(translatedText);
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("mewtwo").block();
+
+    // Then
+    assertEquals(result, expected);
+    assertEquals(translationExchange.paths(), List.of("/translate/yoda.json"));
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_CaveHabitatUsesYoda() {
+    // Given
+    String translatedText = "In dark places,  colonies forms.";
+    PokemonDTO expected =
+        new PokemonDTO(
+            41L, "zubat", "Forms colonies in\nperpetually dark\nplaces.", HABITAT_CAVE, false);
+    pokeApiExchange.respond("/pokemon-species/zubat", createPokemonApiResponse(expected));
+    translationExchange.respond(
+        "/translate/yoda.json", createTranslationResponse(translatedText, TRANSLATION_TYPE_YODA));
+    expected = expected.withDescription(translatedText);
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("zubat").block();
+
+    // Then
+    assertEquals(result, expected);
+    assertEquals(translationExchange.paths(), List.of("/translate/yoda.json"));
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_OtherUsesShakespeare() {
+    // Given
+    String translatedText = "'t stores electricity in its cheeks.";
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of\nthese POKéMON\ngather.", "forest", false);
+    pokeApiExchange.respond("/pokemon-species/pikachu", createPokemonApiResponse(expected));
+    translationExchange.respond(
+        "/translate/shakespeare.json",
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+    expected = expected.withDescription(translatedText);
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(result, expected);
+    assertEquals(translationExchange.paths(), List.of("/translate/shakespeare.json"));
+    assertEquals(translationExchange.requests.get(0).method(), HttpMethod.POST);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_TranslationFails_ReturnsOriginal() {
+    // Given
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of\nthese POKéMON\ngather.", "forest", false);
+    pokeApiExchange.respond("/pokemon-species/pikachu", createPokemonApiResponse(expected));
+    translationExchange.respond("/translate/shakespeare.json", new HashMap<>());
+    expected = expected.withDescription("When several of these POKéMON gather.");
+
+    // When
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(result, expected);
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Pokemon name cannot be null or empty")
+  public void testGetTranslatedPokemonByName_NullName() {
+    // When
+    pokemonService.getTranslatedPokemonByName(null).block();
+
+    // Then - Exception is expected
+  }
+
+  @Test(
+      expectedExceptions = IllegalArgumentException.class,
+      expectedExceptionsMessageRegExp = "Pokemon name cannot be null or empty")
+  public void testGetTranslatedPokemonByName_EmptyName() {
+    // When
+    pokemonService.getTranslatedPokemonByName("").block();
+
+    // Then - Exception is expected
+  }
+
+  @Test
+  public void testGetPokemonByName_MissingTextEntries() {
+    // Given
+    Map<String, Object> apiResponse = new HashMap<>();
+    apiResponse.put("id", 0L);
+    apiResponse.put("name", "missingno");
+    apiResponse.put("is_legendary", false);
+    apiResponse.put("habitat", Map.of("name", "unknown"));
+    apiResponse.put("flavor_text_entries", List.of());
+    pokeApiExchange.respond("/pokemon-species/missingno", apiResponse);
+
+    // When
+    PokemonDTO result = pokemonService.getPokemonByName("missingno").block();
+
+    // Then
+    assertNotNull(result);
+    assertEquals(result.name(), "missingno");
+    assertEquals(result.description(), "");
+  }
+
+  @Test
+  public void testGetPokemonByName_NoEnglishText() {
+    // Given
+    Map<String, Object> apiResponse = new HashMap<>();
+    apiResponse.put("id", 999L);
+    apiResponse.put("name", "japanese-only");
+    apiResponse.put("is_legendary", false);
+    apiResponse.put("habitat", Map.of("name", "urban"));
+    apiResponse.put(
+        "flavor_text_entries",
+        List.of(Map.of("flavor_text", "日本語のテキスト", "language", Map.of("name", "ja"))));
+    pokeApiExchange.respond("/pokemon-species/japanese-only", apiResponse);
+
+    // When
+    PokemonDTO result = pokemonService.getPokemonByName("japanese-only").block();
+
+    // Then
+    assertNotNull(result);
+    assertEquals(result.description(), "");
+  }
+
+  @Test
+  public void testGetPokemonByName_NullHabitat() {
+    // Given
+    Map<String, Object> apiResponse = new HashMap<>();
+    apiResponse.put("id", 1000L);
+    apiResponse.put("name", "nohabitat");
+    apiResponse.put("is_legendary", false);
+    apiResponse.put("habitat", null);
+    apiResponse.put(
+        "flavor_text_entries",
+        List.of(
+            Map.of("flavor_text", "A pokemon with no habitat", "language", Map.of("name", "en"))));
+    pokeApiExchange.respond("/pokemon-species/nohabitat", apiResponse);
+
+    // When
+    PokemonDTO result = pokemonService.getPokemonByName("nohabitat").block();
+
+    // Then
+    assertNotNull(result);
+    assertNull(result.habitat());
+    assertEquals(result.description(), "A pokemon with no habitat");
+  }
+
+  @Test
+  public void testGetPokemonByName_SecondCallServedFromCache() {
+    // Given
+    PokemonDTO expected =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    pokeApiExchange.respond("/pokemon-species/pikachu", createPokemonApiResponse(expected));
+
+    // When
+    PokemonDTO first = pokemonService.getPokemonByName("pikachu").block();
+    PokemonDTO second = pokemonService.getPokemonByName("PIKACHU").block();
+    PokemonDTO byId = pokemonService.getPokemonByName("25").block();
+
+    // Then
+    assertEquals(first, expected);
+    assertSame(second, first);
+    assertSame(byId, first);
+    assertEquals(pokeApiExchange.requests.size(), 1);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_DoesNotMutateCachedPokemon() {
+    // Given
+    String description = "When several of these POKéMON gather.";
+    String translatedText = "Gather,  several of these pokémon.";
+    pokeApiExchange.respond(
+        "/pokemon-species/pikachu",
+        createPokemonApiResponse(new PokemonDTO(25L, "pikachu", description, "forest", false)));
+    translationExchange.respond(
+        "/translate/shakespeare.json",
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+
+    // When
+    PokemonDTO translated = pokemonService.getTranslatedPokemonByName("pikachu").block();
+    PokemonDTO plain = pokemonService.getPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(translated.description(), translatedText);
+    assertEquals(plain.description(), description);
+    assertEquals(pokeApiExchange.requests.size(), 1);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_TranslationServedFromCache() {
+    // Given
+    String translatedText = "Gather,  several of these pokémon.";
+    pokeApiExchange.respond(
+        "/pokemon-species/pikachu",
+        createPokemonApiResponse(
+            new PokemonDTO(
+                25L, "pikachu", "When several of these POKéMON gather.", "forest", false)));
+    translationExchange.respond(
+        "/translate/shakespeare.json",
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+
+    // When
+    pokemonService.getTranslatedPokemonByName("pikachu").block();
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(result.description(), translatedText);
+    assertEquals(translationExchange.requests.size(), 1);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_ConcurrentMissesShareOneTranslation() {
+    // Given
+    String translatedText = "Gather,  several of these pokémon.";
+    pokeApiExchange.respond(
+        "/pokemon-species/pikachu",
+        createPokemonApiResponse(
+            new PokemonDTO(
+                25L, "pikachu", "When several of these POKéMON gather.", "forest", false)));
+    translationExchange.respond(
+        "/translate/shakespeare.json",
+        createTranslationResponse(translatedText, TRANSLATION_TYPE_SHAKESPEARE));
+    translationExchange.delay = Duration.ofMillis(200);
+
+    // When
+    List<PokemonDTO> results =
+        Mono.zip(
+                pokemonService.getTranslatedPokemonByName("pikachu"),
+                pokemonService.getTranslatedPokemonByName(" Pikachu"),
+                (first, second) -> List.of(first, second))
+            .block();
+
+    // Then
+    assertEquals(results.get(0).description(), translatedText);
+    assertEquals(results.get(1).description(), translatedText);
+    assertEquals(pokeApiExchange.requests.size(), 1);
+    assertEquals(translationExchange.requests.size(), 1);
+  }
+
+  @Test
+  public void testGetTranslatedPokemonByName_TranslationFailureCachedBriefly() {
+    // Given
+    String description = "When several of these POKéMON gather.";
+    pokeApiExchange.respond(
+        "/pokemon-species/pikachu",
+        createPokemonApiResponse(new PokemonDTO(25L, "pikachu", description, "forest", false)));
+    translationExchange.respondWithStatus(
+        "/translate/shakespeare.json", HttpStatus.TOO_MANY_REQUESTS);
+
+    // When
+    pokemonService.getTranslatedPokemonByName("pikachu").block();
+    PokemonDTO result = pokemonService.getTranslatedPokemonByName("pikachu").block();
+
+    // Then
+    assertEquals(result.description(), description);
+    assertEquals(translationCache.failureHits(), 1);
+    assertEquals(translationExchange.requests.size(), 1);
+  }
+
+  @Test
+  public void testGetPokemonBatch_ReportsMissingNamesAsErrors() {
+    // Given
+    PokemonDTO pikachu =
+        new PokemonDTO(25L, "pikachu", "When several of these POKéMON gather.", "forest", false);
+    pokeApiExchange.respond("/pokemon-species/pikachu", createPokemonApiResponse(pikachu));
+    pokeApiExchange.respond("/pokemon-species/nonexistent", new HashMap<>());
+
+    // When
+    PokemonBatchResponse response =
+        pokemonService
+            .getPokemonBatch(
+                new PokemonBatchRequest(List.of("pikachu", "nonexistent", "PIKACHU"), false))
+            .block();
+
+    // Then
+    assertEquals(response.results(), List.of(pikachu));
+    assertEquals(response.errors().size(), 1);
+    assertEquals(response.errors().get(0).name(), "nonexistent");
+    assertEquals(response.errors().get(0).status(), 404);
+  }
+
+  private Map<String, Object> createPokemonApiResponse(PokemonDTO dto) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("id", dto.id());
+    response.put("name", dto.name());
+    response.put("is_legendary", dto.legendary());
+    response.put("habitat", Map.of("name", dto.habitat()));
+    response.put(
+        "flavor_text_entries",
+        List.of(Map.of("flavor_text", dto.description(), "language", Map.of("name", "en"))));
+    return response;
+  }
+
+  private Map<String, Object> createTranslationResponse(String translatedText, String type) {
+    Map<String, Object> contents = new HashMap<>();
+    contents.put("translated", translatedText);
+    contents.put("text", "original text");
+    contents.put("translation", type);
+    return Map.of("contents", contents);
+  }
+
+  /** Serves canned JSON bodies by request path and records every exchanged request. */
+  private static class StubExchange implements ExchangeFunction {
+    private final Map<String, ClientResponse.Builder> responses = new HashMap<>();
+    private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+    private Duration delay = Duration.ZERO;
+
+    void respond(String path, Map<String, Object> body) {
+      ClientResponse.Builder response =
+          ClientResponse.create(HttpStatus.OK)
+              .header("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+      if (body != null) {
+        try {
+          response.body(OBJECT_MAPPER.writeValueAsString(body));
+        } catch (JsonProcessingException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+      responses.put(path, response);
+    }
+
+    void respondWithStatus(String path, HttpStatus status) {
+      responses.put(path, ClientResponse.create(status));
+    }
+
+    List<String> paths() {
+      return requests.stream().map(request -> request.url().getPath()).toList();
+    }
+
+    @Override
+    public Mono<ClientResponse> exchange(ClientRequest request) {
+      requests.add(request);
+      ClientResponse.Builder response = responses.get(request.url().getPath());
+      return response == null
+          ? Mono.error(new IllegalStateException("Unexpected request: " + request.url()))
+          : Mono.just(response.build()).delayElement(delay);
+    }
+  }
+}
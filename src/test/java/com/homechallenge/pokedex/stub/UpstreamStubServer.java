@@ -0,0 +1,277 @@
+package com.homechallenge.pokedex.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for PokeAPI and FunTranslations. Serves the recorded payloads under {@code
+ * payloads/} on the classpath: {@code /pokemon-species/{name}} returns {@code
+ * payloads/pokemon-species/{name}.json} and {@code /translate/{type}.json} returns {@code
+ * payloads/translate/{type}.json}. Anything else is a 404, unless a fallback or synthetic species
+ * is set.
+ *
+ * <p>Every response can be delayed by a latency drawn from a {@link Latency} distribution, and a
+ * fraction of requests can fail with a 503. Translations can be held to a quota per period, as
+ * FunTranslations does: requests over it get a 429 with the seconds until the period resets in
+ * {@code Retry-After}.
+ */
+public class UpstreamStubServer implements AutoCloseable {
+
+  private static final String SPECIES_PREFIX = "/pokemon-species/";
+  private static final String TRANSLATE_PREFIX = "/translate/";
+  private static final String SYNTHETIC_NAME = "@@synthetic-name@@";
+  private static final long SYNTHETIC_ID = 987_654_321L;
+
+  static {
+    // without TCP_NODELAY, delayed ACKs add ~40 ms to every small POST
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+  private volatile Latency speciesLatency = Latency.NONE;
+  private volatile Latency translationLatency = Latency.NONE;
+  private volatile double speciesErrorRate;
+  private volatile double translationErrorRate;
+  private volatile String fallbackSpecies;
+  private volatile String syntheticTemplate;
+  private volatile int translationQuota;
+  private volatile long translationQuotaPeriodNanos;
+  private final AtomicLong quotaWindow = new AtomicLong();
+  private final AtomicLong quotaUsed = new AtomicLong();
+
+  public UpstreamStubServer(int threads) throws IOException {
+    this(Executors.newFixedThreadPool(threads));
+  }
+
+  private UpstreamStubServer(ExecutorService executor) throws IOException {
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+    this.executor = executor;
+    server.setExecutor(executor);
+    server.createContext(SPECIES_PREFIX, this::handleSpecies);
+    server.createContext(TRANSLATE_PREFIX, this::handleTranslate);
+  }
+
+  /** A stub handling every request on its own virtual thread, for high-concurrency tests. */
+  public static UpstreamStubServer withVirtualThreads() throws IOException {
+    return new UpstreamStubServer(Executors.newVirtualThreadPerTaskExecutor());
+  }
+
+  /** Delays every response by the same latency. */
+  public UpstreamStubServer latency(Duration latency) {
+    return latency(Latency.fixed(latency), Latency.fixed(latency));
+  }
+
+  public UpstreamStubServer latency(Latency species, Latency translation) {
+    this.speciesLatency = species;
+    this.translationLatency = translation;
+    return this;
+  }
+
+  /** Fractions of species and translation requests answered with a 503. */
+  public UpstreamStubServer errorRate(double species, double translation) {
+    this.speciesErrorRate = species;
+    this.translationErrorRate = translation;
+    return this;
+  }
+
+  /**
+   * Serves every name without a recorded payload as a copy of this species' payload, renamed and
+   * with its own id and flavor text, so that each name is a distinct species to the caches and to
+   * the translation cache alike.
+   */
+  public UpstreamStubServer syntheticSpecies(String template) {
+    try {
+      ObjectNode species =
+          (ObjectNode)
+              new ObjectMapper().readTree(payload("pokemon-species/" + template + ".json"));
+      species.put("id", SYNTHETIC_ID);
+      species.put("name", SYNTHETIC_NAME);
+      for (JsonNode entry : species.withArray("flavor_text_entries")) {
+        ((ObjectNode) entry)
+            .put("flavor_text", SYNTHETIC_NAME + " " + entry.get("flavor_text").asText());
+      }
+      this.syntheticTemplate = species.toString();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
+  /** Answers translations beyond {@code requests} per {@code period} with a 429; 0 disables. */
+  public UpstreamStubServer translationQuota(int requests, Duration period) {
+    this.translationQuotaPeriodNanos = period.toNanos();
+    quotaWindow.set(System.nanoTime());
+    quotaUsed.set(0);
+    this.translationQuota = requests;
+    return this;
+  }
+
+  /** Serves this species' payload for names without a recorded payload of their own. */
+  public UpstreamStubServer fallbackSpecies(String name) {
+    this.fallbackSpecies = name;
+    return this;
+  }
+
+  public UpstreamStubServer start() {
+    server.start();
+    return this;
+  }
+
+  public String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handleSpecies(HttpExchange exchange) throws IOException {
+    String name = exchange.getRequestURI().getPath().substring(SPECIES_PREFIX.length());
+    byte[] body = payload("pokemon-species/" + name + ".json");
+    if (body.length == 0 && fallbackSpecies != null) {
+      body = payload("pokemon-species/" + fallbackSpecies + ".json");
+    }
+    if (body.length == 0 && syntheticTemplate != null) {
+      long id = 10_000 + Math.floorMod(name.hashCode(), 1_000_000);
+      body =
+          syntheticTemplate
+              .replace(SYNTHETIC_NAME, name)
+              .replace(String.valueOf(SYNTHETIC_ID), String.valueOf(id))
+              .getBytes(StandardCharsets.UTF_8);
+    }
+    respond(exchange, speciesLatency, speciesErrorRate, body);
+  }
+
+  private void handleTranslate(HttpExchange exchange) throws IOException {
+    // drain the form body so the connection can be reused
+    exchange.getRequestBody().readAllBytes();
+    long retryAfterNanos = overQuota();
+    if (retryAfterNanos > 0) {
+      sleep(translationLatency.sample());
+      exchange
+          .getResponseHeaders()
+          .set("Retry-After", String.valueOf((retryAfterNanos + 999_999_999) / 1_000_000_000));
+      exchange.sendResponseHeaders(429, -1);
+      exchange.close();
+      return;
+    }
+    String file = exchange.getRequestURI().getPath().substring(TRANSLATE_PREFIX.length());
+    respond(exchange, translationLatency, translationErrorRate, payload("translate/" + file));
+  }
+
+  /**
+   * Counts a translation against the quota.
+   *
+   * @return 0 when it is within the quota, otherwise the nanoseconds until the quota resets
+   */
+  private long overQuota() {
+    int quota = translationQuota;
+    if (quota <= 0) {
+      return 0;
+    }
+    long now = System.nanoTime();
+    long windowStart = quotaWindow.get();
+    if (now - windowStart >= translationQuotaPeriodNanos
+        && quotaWindow.compareAndSet(windowStart, now)) {
+      quotaUsed.set(0);
+      windowStart = now;
+    }
+    if (quotaUsed.incrementAndGet() <= quota) {
+      return 0;
+    }
+    return Math.max(1, windowStart + translationQuotaPeriodNanos - now);
+  }
+
+  private byte[] payload(String path) {
+    return payloads.computeIfAbsent(path, UpstreamStubServer::load);
+  }
+
+  private static byte[] load(String path) {
+    try (InputStream in =
+        UpstreamStubServer.class.getClassLoader().getResourceAsStream("payloads/" + path)) {
+      return in == null ? new byte[0] : in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void respond(HttpExchange exchange, Latency latency, double errorRate, byte[] body)
+      throws IOException {
+    sleep(latency.sample());
+    if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+      exchange.sendResponseHeaders(503, -1);
+      exchange.close();
+      return;
+    }
+    if (body.length == 0) {
+      exchange.sendResponseHeaders(404, -1);
+      exchange.close();
+      return;
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static void sleep(Duration latency) {
+    if (latency.isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(latency);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Distribution the stub draws each response's latency from. */
+  @FunctionalInterface
+  public interface Latency {
+
+    Latency NONE = () -> Duration.ZERO;
+
+    Duration sample();
+
+    static Latency fixed(Duration latency) {
+      return () -> latency;
+    }
+
+    /**
+     * Log-normal latency with the given median and 99th percentile, the usual shape of a remote
+     * call: most close to the median, with a long tail.
+     */
+    static Latency logNormal(Duration median, Duration p99) {
+      if (median.isZero() || p99.compareTo(median) <= 0) {
+        return fixed(median);
+      }
+      double mu = Math.log(median.toNanos());
+      // 2.326 is the standard normal quantile of 0.99
+      double sigma = (Math.log(p99.toNanos()) - mu) / 2.326;
+      return () ->
+          Duration.ofNanos(
+              (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+  }
+}
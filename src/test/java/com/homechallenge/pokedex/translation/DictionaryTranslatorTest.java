@@ -0,0 +1,71 @@
+package com.homechallenge.pokedex.translation;
+
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_SHAKESPEARE;
+import static com.homechallenge.pokedex.util.PokemonUtils.TRANSLATION_TYPE_YODA;
+import static org.testng.Assert.*;
+
+import java.io.IOException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class DictionaryTranslatorTest {
+  private DictionaryTranslator translator;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    translator = DictionaryTranslator.load();
+  }
+
+  @Test
+  public void testShakespeare_ReplacesPhrasesBeforeWordsKeepingCase() {
+    // Given
+    String text = "When several of these POKéMON gather, YOU are never safe. You have nothing.";
+
+    // When
+    String translated = translator.translate(text, TRANSLATION_TYPE_SHAKESPEARE);
+
+    // Then
+    assertEquals(
+        translated,
+        "At which hour several of these POKéMON gather, THOU ART ne'er safe. Thou hast naught.");
+  }
+
+  @Test
+  public void testYoda_MovesShortSubjectBehindEachSentence() {
+    // Given
+    String text =
+        "It was created by a scientist after years of horrific gene splicing and DNA engineering"
+            + " experiments. I am strong! Its body is covered in fur";
+
+    // When
+    String translated = translator.translate(text, TRANSLATION_TYPE_YODA);
+
+    // Then
+    assertEquals(
+        translated,
+        "Created by a scientist after years of horrific gene splicing and DNA engineering"
+            + " experiments, it was. Powerful, I am! Covered in fur, its body is");
+  }
+
+  @Test
+  public void testYoda_LeavesSentencesWithoutLeadingSubjectAlone() {
+    // Given
+    String text = "When several of these POKéMON gather, their electricity could build. It is.";
+
+    // When
+    String translated = translator.translate(text, TRANSLATION_TYPE_YODA);
+
+    // Then
+    assertEquals(translated, text);
+  }
+
+  @Test
+  public void testTranslate_UnknownTypeAndUntouchedText() {
+    // Given
+    String text = "Plain text.";
+
+    // When / Then
+    assertNull(translator.translate(text, "pirate"));
+    assertSame(translator.translate(text, TRANSLATION_TYPE_SHAKESPEARE), text);
+  }
+}
@@ -0,0 +1,130 @@
+package com.homechallenge.pokedex.util;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private SingleFlight<String, String> singleFlight;
+  private ExecutorService executor;
+
+  @BeforeMethod
+  public void setUp() {
+    singleFlight = new SingleFlight<>();
+    executor = Executors.newFixedThreadPool(CALLERS);
+  }
+
+  @AfterMethod
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testExecute_ConcurrentCallersShareOneCall() throws Exception {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    // When
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "pikachu",
+                      () -> {
+                        calls.incrementAndGet();
+                        await(release);
+                        return "electric";
+                      })));
+    }
+    waitForFlight();
+    release.countDown();
+
+    // Then
+    for (Future<String> result : results) {
+      assertEquals(result.get(5, TimeUnit.SECONDS), "electric");
+    }
+    assertEquals(calls.get(), 1);
+    assertEquals(singleFlight.inFlightCount(), 0);
+  }
+
+  @Test
+  public void testExecute_ExceptionSharedWithWaitingCallers() throws Exception {
+    // Given
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("upstream down");
+
+    // When
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "mewtwo",
+                      () -> {
+                        await(release);
+                        throw failure;
+                      })));
+    }
+    waitForFlight();
+    release.countDown();
+
+    // Then
+    for (Future<String> result : results) {
+      try {
+        result.get(5, TimeUnit.SECONDS);
+        fail("Expected the shared failure");
+      } catch (ExecutionException e) {
+        assertSame(e.getCause(), failure);
+      }
+    }
+    assertEquals(singleFlight.inFlightCount(), 0);
+  }
+
+  @Test
+  public void testExecute_SequentialCallsAreNotCoalesced() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    singleFlight.execute("zubat", () -> "first-" + calls.incrementAndGet());
+    String second = singleFlight.execute("zubat", () -> "second-" + calls.incrementAndGet());
+
+    // Then
+    assertEquals(second, "second-2");
+    assertEquals(calls.get(), 2);
+  }
+
+  private void waitForFlight() throws InterruptedException {
+    while (singleFlight.inFlightCount() == 0) {
+      Thread.sleep(5);
+    }
+    // give the remaining callers time to join the in-flight call
+    Thread.sleep(100);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}